@@ -0,0 +1,157 @@
+import java.util.Arrays;
+
+/**
+ * Implementación de pila genérica sobre un arreglo (misma API pública que StackManual)
+ * - Sin un nodo por push: los elementos quedan contiguos en un Object[]
+ * - Crece al doble cuando se llena
+ * - Se reduce a la mitad solo cuando queda ocupada a lo sumo una cuarta parte (histéresis):
+ *   alternar push/pop cerca de un límite no provoca copias repetidas
+ * - Nunca se reduce por debajo de la capacidad inicial (sugerencia de capacidad)
+ * Complejidad: O(1) amortizado para push y pop, O(1) para peek
+ */
+public class ArrayStackManual<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] items;
+    private int size;
+    private final int minCapacity;
+
+    /**
+     * Constructor: crea una pila vacía con la capacidad por defecto
+     * Precondición: ninguna
+     * Postcondición: pila vacía con size = 0
+     */
+    public ArrayStackManual() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor: crea una pila vacía con capacidad preasignada
+     * Precondición: capacityHint >= 0
+     * Postcondición: pila vacía con size = 0 y capacidad >= capacityHint
+     * @throws IllegalArgumentException si capacityHint es negativa
+     */
+    public ArrayStackManual(int capacityHint) {
+        if (capacityHint < 0) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacityHint);
+        }
+        this.minCapacity = Math.max(capacityHint, 1);
+        this.items = new Object[minCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Agrega un elemento al tope de la pila
+     * Precondición: ninguna
+     * Postcondición: elemento agregado al tope, size incrementado
+     * Complejidad: O(1) amortizado
+     */
+    public void push(T value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[size++] = value;
+    }
+
+    /**
+     * Remueve y retorna el elemento del tope de la pila
+     * Precondición: pila no vacía
+     * Postcondición: elemento removido del tope, size decrementado
+     * Complejidad: O(1) amortizado
+     * @throws EmptyStackException si la pila está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException("No se puede hacer pop en una pila vacía");
+        }
+
+        T data = (T) items[--size];
+        items[size] = null; // Liberar la referencia para el recolector
+        if (size <= items.length / 4 && items.length / 2 >= minCapacity) {
+            items = Arrays.copyOf(items, items.length / 2);
+        }
+        return data;
+    }
+
+    /**
+     * Retorna el elemento del tope sin removerlo
+     * Precondición: pila no vacía
+     * Postcondición: pila sin cambios
+     * Complejidad: O(1)
+     * @throws EmptyStackException si la pila está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException("No se puede hacer peek en una pila vacía");
+        }
+
+        return (T) items[size - 1];
+    }
+
+    /**
+     * Verifica si la pila está vacía
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna el número de elementos en la pila
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retorna la longitud actual del arreglo interno
+     */
+    public int capacity() {
+        return items.length;
+    }
+
+    /**
+     * Vacía la pila
+     * Precondición: ninguna
+     * Postcondición: pila vacía con size = 0; la capacidad vuelve a la inicial
+     *                si había crecido más de 4 veces, si no se conserva para reutilizarla
+     * Complejidad: O(size)
+     */
+    public void clear() {
+        if (items.length / 4 > minCapacity) {
+            items = new Object[minCapacity];
+        } else {
+            Arrays.fill(items, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Verifica si la pila contiene un elemento específico
+     * Complejidad: O(n)
+     */
+    public boolean contains(T value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (items[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convierte la pila a un arreglo, del tope a la base (mismo orden que StackManual)
+     * Complejidad: O(n)
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] array = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (T) items[size - 1 - i];
+        }
+        return array;
+    }
+}
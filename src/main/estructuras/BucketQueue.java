@@ -0,0 +1,112 @@
+/**
+ * Cola de prioridad por cubetas (cola de Dial) para prioridades enteras pequeñas
+ * Requisito: cada prioridad insertada está en [prioridad actual, prioridad actual + maxStep],
+ * como ocurre en Dijkstra cuando los costos de arista son enteros en [1, maxStep]
+ * Usa maxStep + 1 cubetas circulares; cada cubeta es un arreglo de ids que crece según se necesite
+ * Complejidad: O(1) para insert, O(1) amortizado para poll (avance de cubetas acotado por maxStep)
+ * Las entradas obsoletas no se eliminan: quien la usa las descarta al extraerlas (eliminación perezosa)
+ */
+public class BucketQueue {
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private int currentBucket;
+    private long currentPriority;
+    private int size;
+
+    /**
+     * Constructor: crea una cola vacía para saltos de prioridad de hasta maxStep
+     * Precondición: maxStep >= 1
+     * Postcondición: cola vacía con prioridad actual 0
+     */
+    public BucketQueue(int maxStep) {
+        if (maxStep < 1) {
+            throw new IllegalArgumentException("El salto máximo debe ser >= 1: " + maxStep);
+        }
+        this.buckets = new int[maxStep + 1][];
+        this.bucketSizes = new int[maxStep + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new int[4];
+        }
+        this.currentBucket = 0;
+        this.currentPriority = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Inserta un id con la prioridad indicada
+     * Precondición: currentPriority() <= priority <= currentPriority() + maxStep
+     * Postcondición: id agregado a su cubeta, size incrementado
+     * Complejidad: O(1) amortizado
+     */
+    public void insert(int id, long priority) {
+        long offset = priority - currentPriority;
+        if (offset < 0 || offset >= buckets.length) {
+            throw new IllegalArgumentException("Prioridad fuera de rango: " + priority
+                + " (actual " + currentPriority + ", salto máximo " + (buckets.length - 1) + ")");
+        }
+        int bucket = (int) ((currentBucket + offset) % buckets.length);
+        if (bucketSizes[bucket] == buckets[bucket].length) {
+            int[] grown = new int[buckets[bucket].length * 2];
+            System.arraycopy(buckets[bucket], 0, grown, 0, bucketSizes[bucket]);
+            buckets[bucket] = grown;
+        }
+        buckets[bucket][bucketSizes[bucket]++] = id;
+        size++;
+    }
+
+    /**
+     * Remueve y retorna un id con la menor prioridad; currentPriority() pasa a ser su prioridad
+     * Precondición: cola no vacía
+     * Postcondición: id removido, size decrementado
+     * Complejidad: O(1) amortizado
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public int poll() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer poll en una cola de cubetas vacía");
+        }
+        while (bucketSizes[currentBucket] == 0) {
+            currentBucket = (currentBucket + 1) % buckets.length;
+            currentPriority++;
+        }
+        size--;
+        return buckets[currentBucket][--bucketSizes[currentBucket]];
+    }
+
+    /**
+     * Retorna la prioridad del último id extraído (cota inferior de las pendientes)
+     * Complejidad: O(1)
+     */
+    public long currentPriority() {
+        return currentPriority;
+    }
+
+    /**
+     * Verifica si la cola está vacía
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna el número de entradas (incluyendo obsoletas) en la cola
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la cola conservando la memoria de las cubetas
+     * Postcondición: cola vacía con prioridad actual 0
+     */
+    public void clear() {
+        for (int i = 0; i < bucketSizes.length; i++) {
+            bucketSizes[i] = 0;
+        }
+        currentBucket = 0;
+        currentPriority = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,179 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cola genérica concurrente sin bloqueos (algoritmo de Michael y Scott)
+ * - Lista enlazada con un nodo centinela: head apunta al centinela, tail al último nodo o a su predecesor
+ * - enqueue enlaza el nodo nuevo con CAS sobre tail.next y luego intenta avanzar tail
+ * - dequeue avanza head con CAS; el nodo siguiente pasa a ser el nuevo centinela
+ * - Cualquier hilo que encuentra tail atrasado lo ayuda a avanzar, así ningún hilo bloquea a otro
+ * Misma semántica que QueueManual para enqueue/dequeue/front/isEmpty; como otro hilo puede vaciar
+ * la cola entre isEmpty() y dequeue(), los consumidores concurrentes deben usar poll()
+ * Complejidad: O(1) para enqueue, dequeue y poll (sin contar reintentos por contención)
+ */
+public class ConcurrentQueueManual<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentQueueManual.class, "head", QueueNode.class);
+            TAIL = lookup.findVarHandle(ConcurrentQueueManual.class, "tail", QueueNode.class);
+            NEXT = lookup.findVarHandle(QueueNode.class, "next", QueueNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Nodo de la cola; next solo se modifica con CAS
+     */
+    private static final class QueueNode<T> {
+        private volatile T data;
+        private volatile QueueNode<T> next;
+
+        QueueNode(T data) {
+            this.data = data;
+        }
+    }
+
+    private volatile QueueNode<T> head;
+    private volatile QueueNode<T> tail;
+
+    /**
+     * Constructor: crea una cola vacía (solo el nodo centinela)
+     * Postcondición: head == tail == centinela
+     */
+    public ConcurrentQueueManual() {
+        QueueNode<T> sentinel = new QueueNode<>(null);
+        this.head = sentinel;
+        this.tail = sentinel;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola
+     * Precondición: value != null (null se reserva para indicar "cola vacía" en poll)
+     * Postcondición: elemento visible para todos los consumidores
+     * Complejidad: O(1) sin contención
+     * @throws IllegalArgumentException si value es null
+     */
+    public void enqueue(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("La cola concurrente no admite elementos null");
+        }
+        QueueNode<T> newNode = new QueueNode<>(value);
+
+        while (true) {
+            QueueNode<T> last = tail;
+            QueueNode<T> next = last.next;
+            if (last != tail) {
+                continue; // tail cambió mientras se leía: reintentar
+            }
+            if (next == null) {
+                // last es realmente el último: enlazar el nodo nuevo
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode); // Si falla, otro hilo ya lo avanzó
+                    return;
+                }
+            } else {
+                // tail está atrasado: ayudar a avanzarlo
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Remueve y retorna el elemento del frente, o null si la cola está vacía
+     * Complejidad: O(1) sin contención
+     */
+    public T poll() {
+        while (true) {
+            QueueNode<T> first = head;
+            QueueNode<T> last = tail;
+            QueueNode<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null; // Solo está el centinela
+            }
+            if (first == last) {
+                // Hay un nodo enlazado pero tail no avanzó todavía: ayudar
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            T data = next.data;
+            if (HEAD.compareAndSet(this, first, next)) {
+                next.data = null; // El nuevo centinela no retiene el elemento
+                first.next = first; // El centinela anterior se desliga (ayuda al recolector)
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Remueve y retorna el elemento del frente de la cola
+     * Precondición: cola no vacía
+     * Complejidad: O(1) sin contención
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new EmptyQueueException("No se puede hacer dequeue en una cola vacía");
+        }
+        return data;
+    }
+
+    /**
+     * Retorna el elemento del frente sin removerlo
+     * Es una instantánea: otro hilo puede removerlo justo después
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public T front() {
+        while (true) {
+            QueueNode<T> first = head;
+            QueueNode<T> next = first.next;
+            if (next == null) {
+                throw new EmptyQueueException("No se puede hacer front en una cola vacía");
+            }
+            T data = next.data;
+            if (first == head && data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Verifica si la cola está vacía (instantánea)
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Cuenta los elementos recorriendo la lista
+     * No es atómico respecto de operaciones concurrentes; pensado para reportes y pruebas
+     * Complejidad: O(n)
+     */
+    public int size() {
+        int count = 0;
+        QueueNode<T> current = head.next;
+        while (current != null) {
+            if (current.data != null) {
+                count++;
+            }
+            QueueNode<T> next = current.next;
+            if (next == current) {
+                current = head.next; // Nodo ya removido: continuar desde el frente actual
+                count = 0;
+            } else {
+                current = next;
+            }
+        }
+        return count;
+    }
+}
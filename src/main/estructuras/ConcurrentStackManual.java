@@ -0,0 +1,189 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pila genérica concurrente sin bloqueos (pila de Treiber) con arreglo de eliminación
+ * - push/pop actualizan el tope con un único CAS
+ * - Si el CAS falla por contención, el hilo prueba el arreglo de eliminación antes de reintentar:
+ *   un push deja su nodo en una casilla al azar y espera brevemente; un pop que encuentra
+ *   ese nodo lo toma. El par push/pop se anula sin tocar el tope
+ * - Con alta contención la mitad de los hilos puede terminar sin competir por el tope
+ * Misma API que StackManual (push, pop, peek, isEmpty, size); los consumidores concurrentes
+ * deben usar tryPop(), ya que otro hilo puede vaciar la pila entre isEmpty() y pop()
+ * Complejidad: O(1) para push, pop y peek (sin contar reintentos por contención)
+ */
+public class ConcurrentStackManual<T> {
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(ConcurrentStackManual.class, "top", StackNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Iteraciones que un push espera en el arreglo de eliminación antes de retirar su oferta
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * Nodo inmutable: next se fija antes de publicarlo con CAS
+     */
+    private static final class StackNode<T> {
+        private final T data;
+        private StackNode<T> next;
+
+        StackNode(T data) {
+            this.data = data;
+        }
+    }
+
+    private volatile StackNode<T> top;
+    private final AtomicReferenceArray<StackNode<T>> eliminationSlots; // null si está desactivado
+
+    /**
+     * Constructor: pila vacía con arreglo de eliminación de una casilla por cada dos procesadores
+     */
+    public ConcurrentStackManual() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Constructor: pila vacía con el número de casillas de eliminación indicado
+     * Precondición: eliminationSize >= 0 (0 = pila de Treiber sin eliminación)
+     */
+    public ConcurrentStackManual(int eliminationSize) {
+        if (eliminationSize < 0) {
+            throw new IllegalArgumentException("Tamaño de eliminación inválido: " + eliminationSize);
+        }
+        this.top = null;
+        this.eliminationSlots = eliminationSize > 0 ? new AtomicReferenceArray<>(eliminationSize) : null;
+    }
+
+    /**
+     * Agrega un elemento al tope de la pila
+     * Precondición: value != null (null se reserva para indicar "pila vacía" en tryPop)
+     * Postcondición: elemento agregado (o entregado directamente a un pop concurrente)
+     * Complejidad: O(1) sin contención
+     * @throws IllegalArgumentException si value es null
+     */
+    public void push(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("La pila concurrente no admite elementos null");
+        }
+        StackNode<T> node = new StackNode<>(value);
+
+        while (true) {
+            StackNode<T> current = top;
+            node.next = current;
+            if (TOP.compareAndSet(this, current, node)) {
+                return;
+            }
+            if (eliminationSlots != null && offerToPop(node)) {
+                return; // Un pop concurrente tomó el nodo
+            }
+        }
+    }
+
+    /**
+     * Remueve y retorna el elemento del tope, o null si la pila está vacía
+     * Complejidad: O(1) sin contención
+     */
+    public T tryPop() {
+        while (true) {
+            StackNode<T> current = top;
+            if (current == null) {
+                return null;
+            }
+            if (TOP.compareAndSet(this, current, current.next)) {
+                return current.data;
+            }
+            if (eliminationSlots != null) {
+                StackNode<T> eliminated = takeFromPush();
+                if (eliminated != null) {
+                    return eliminated.data;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remueve y retorna el elemento del tope de la pila
+     * Precondición: pila no vacía
+     * Complejidad: O(1) sin contención
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public T pop() {
+        T data = tryPop();
+        if (data == null) {
+            throw new EmptyStackException("No se puede hacer pop en una pila vacía");
+        }
+        return data;
+    }
+
+    /**
+     * Retorna el elemento del tope sin removerlo (instantánea)
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public T peek() {
+        StackNode<T> current = top;
+        if (current == null) {
+            throw new EmptyStackException("No se puede hacer peek en una pila vacía");
+        }
+        return current.data;
+    }
+
+    /**
+     * Verifica si la pila está vacía (instantánea)
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    /**
+     * Cuenta los elementos de una instantánea del tope
+     * Los nodos son inmutables una vez publicados, así que el recorrido es seguro
+     * Complejidad: O(n)
+     */
+    public int size() {
+        int count = 0;
+        for (StackNode<T> current = top; current != null; current = current.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Deja el nodo en una casilla al azar y espera a que un pop lo tome
+     * @return true si un pop lo tomó; false si se retiró la oferta (hay que reintentar el CAS)
+     */
+    private boolean offerToPop(StackNode<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false; // Casilla ocupada por otra oferta
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // Retirar la oferta; si el CAS falla es porque un pop la tomó justo ahora
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Toma el nodo ofrecido por un push concurrente en una casilla al azar, si hay alguno
+     */
+    private StackNode<T> takeFromPush() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        StackNode<T> offered = eliminationSlots.get(slot);
+        if (offered != null && eliminationSlots.compareAndSet(slot, offered, null)) {
+            return offered;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.Arrays;
+
+/**
+ * Montículo binario mínimo indexado sobre identificadores enteros [0, capacity)
+ * Cada identificador aparece como máximo una vez y su prioridad puede modificarse
+ * Complejidad: O(log n) para insert, poll, decreaseKey, update, remove
+ *              O(1) para contains, peek, isEmpty, size
+ * Uso típico: conjunto abierto de A* / Dijkstra con ids de celda (row * cols + col)
+ */
+public class IndexedMinHeap {
+    private final int[] heap;      // heap[i] = id en la posición i
+    private final int[] position;  // position[id] = posición en heap, -1 si no está
+    private final long[] keys;     // keys[id] = prioridad actual del id
+    private int size;
+
+    /**
+     * Constructor: crea un montículo vacío para ids en [0, capacity)
+     * Precondición: capacity >= 0
+     * Postcondición: montículo vacío con size = 0
+     */
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacity);
+        }
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        this.size = 0;
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Inserta un id con la prioridad indicada
+     * Precondición: 0 <= id < capacity y el id no está en el montículo
+     * Postcondición: id agregado, size incrementado
+     * Complejidad: O(log n)
+     */
+    public void insert(int id, long key) {
+        checkId(id);
+        if (position[id] != -1) {
+            throw new IllegalArgumentException("El id ya está en el montículo: " + id);
+        }
+        keys[id] = key;
+        heap[size] = id;
+        position[id] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Remueve y retorna el id con menor prioridad
+     * Precondición: montículo no vacío
+     * Postcondición: id removido, size decrementado
+     * Complejidad: O(log n)
+     * @throws EmptyQueueException si el montículo está vacío
+     */
+    public int poll() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer poll en un montículo vacío");
+        }
+        int min = heap[0];
+        removeAtPosition(0);
+        return min;
+    }
+
+    /**
+     * Retorna el id con menor prioridad sin removerlo
+     * Precondición: montículo no vacío
+     * Complejidad: O(1)
+     * @throws EmptyQueueException si el montículo está vacío
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer peek en un montículo vacío");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Retorna la menor prioridad sin remover el id
+     * Precondición: montículo no vacío
+     * Complejidad: O(1)
+     * @throws EmptyQueueException si el montículo está vacío
+     */
+    public long peekKey() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer peekKey en un montículo vacío");
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Disminuye la prioridad de un id presente
+     * Precondición: id en el montículo y key <= prioridad actual
+     * Postcondición: prioridad actualizada, orden del montículo restaurado
+     * Complejidad: O(log n)
+     */
+    public void decreaseKey(int id, long key) {
+        checkContains(id);
+        if (key > keys[id]) {
+            throw new IllegalArgumentException("La nueva prioridad es mayor que la actual para el id " + id);
+        }
+        keys[id] = key;
+        siftUp(position[id]);
+    }
+
+    /**
+     * Cambia la prioridad de un id presente (puede aumentar o disminuir)
+     * Precondición: id en el montículo
+     * Postcondición: prioridad actualizada, orden del montículo restaurado
+     * Complejidad: O(log n)
+     */
+    public void update(int id, long key) {
+        checkContains(id);
+        long old = keys[id];
+        keys[id] = key;
+        if (key < old) {
+            siftUp(position[id]);
+        } else {
+            siftDown(position[id]);
+        }
+    }
+
+    /**
+     * Remueve un id arbitrario del montículo
+     * Precondición: id en el montículo
+     * Postcondición: id removido, size decrementado
+     * Complejidad: O(log n)
+     */
+    public void remove(int id) {
+        checkContains(id);
+        removeAtPosition(position[id]);
+    }
+
+    /**
+     * Verifica si el id está en el montículo
+     * Complejidad: O(1)
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < position.length && position[id] != -1;
+    }
+
+    /**
+     * Retorna la prioridad actual de un id presente
+     * Complejidad: O(1)
+     */
+    public long keyOf(int id) {
+        checkContains(id);
+        return keys[id];
+    }
+
+    /**
+     * Verifica si el montículo está vacío
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna el número de ids en el montículo
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retorna la capacidad (rango de ids admitidos)
+     */
+    public int capacity() {
+        return position.length;
+    }
+
+    /**
+     * Vacía el montículo sin reasignar memoria
+     * Postcondición: montículo vacío, reutilizable para otra búsqueda
+     * Complejidad: O(size), no O(capacity)
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void removeAtPosition(int index) {
+        int removed = heap[index];
+        size--;
+        if (index != size) {
+            int last = heap[size];
+            heap[index] = last;
+            position[last] = index;
+            siftDown(index);
+            siftUp(position[last]);
+        }
+        position[removed] = -1;
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        long key = keys[id];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parentId = heap[parentIndex];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[index] = parentId;
+            position[parentId] = index;
+            index = parentIndex;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        long key = keys[id];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= position.length) {
+            throw new InvalidIndexException("Id inválido: " + id + ". Capacidad del montículo: " + position.length);
+        }
+    }
+
+    private void checkContains(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("El id no está en el montículo: " + id);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Implementación de cola de enteros primitivos sobre un arreglo circular int[]
+ * Misma API que QueueManual (enqueue, dequeue, front, back...) pero sin boxing a Integer
+ * - La capacidad es siempre potencia de 2, así el índice circular es (i & mask) en vez de i % capacity
+ * Complejidad: O(1) amortizado para enqueue, O(1) para dequeue, front y back
+ */
+public class IntQueueManual {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] items;
+    private int mask;
+    private int head;
+    private int tail;
+    private int size;
+
+    /**
+     * Constructor: crea una cola vacía
+     * Precondición: ninguna
+     * Postcondición: cola vacía con size = 0
+     */
+    public IntQueueManual() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor: crea una cola vacía con al menos la capacidad indicada
+     * Precondición: 0 <= initialCapacity <= 2^30
+     * Postcondición: cola vacía con size = 0
+     */
+    public IntQueueManual(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad inválida: " + initialCapacity);
+        }
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        this.items = new int[capacity];
+        this.mask = capacity - 1;
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola
+     * Precondición: ninguna
+     * Postcondición: elemento agregado al final, size incrementado
+     * Complejidad: O(1) amortizado (el arreglo duplica su tamaño al llenarse)
+     */
+    public void enqueue(int value) {
+        if (size == items.length) {
+            resize();
+        }
+        items[tail] = value;
+        tail = (tail + 1) & mask;
+        size++;
+    }
+
+    /**
+     * Remueve y retorna el elemento del frente de la cola
+     * Precondición: cola no vacía
+     * Postcondición: elemento removido del frente, size decrementado
+     * Complejidad: O(1)
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer dequeue en una cola vacía");
+        }
+        int data = items[head];
+        head = (head + 1) & mask;
+        size--;
+        return data;
+    }
+
+    /**
+     * Retorna el elemento del frente sin removerlo
+     * Precondición: cola no vacía
+     * Complejidad: O(1)
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public int front() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer front en una cola vacía");
+        }
+        return items[head];
+    }
+
+    /**
+     * Retorna el elemento del final sin removerlo
+     * Precondición: cola no vacía
+     * Complejidad: O(1)
+     * @throws EmptyQueueException si la cola está vacía
+     */
+    public int back() {
+        if (isEmpty()) {
+            throw new EmptyQueueException("No se puede hacer back en una cola vacía");
+        }
+        return items[(tail - 1) & mask];
+    }
+
+    /**
+     * Verifica si la cola está vacía
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna el número de elementos en la cola
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la cola conservando el arreglo (no hay referencias que liberar)
+     * Postcondición: cola vacía con size = 0
+     * Complejidad: O(1)
+     */
+    public void clear() {
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    /**
+     * Verifica si la cola contiene un elemento específico
+     * Complejidad: O(n)
+     */
+    public boolean contains(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[(head + i) & mask] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convierte la cola a un arreglo, del frente al final
+     * Complejidad: O(n)
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = items[(head + i) & mask];
+        }
+        return array;
+    }
+
+    /**
+     * Duplica la capacidad copiando los dos tramos del arreglo circular en orden
+     */
+    private void resize() {
+        int[] newItems = new int[items.length * 2];
+        int firstPart = items.length - head;
+        System.arraycopy(items, head, newItems, 0, firstPart);
+        System.arraycopy(items, 0, newItems, firstPart, head);
+        items = newItems;
+        mask = newItems.length - 1;
+        head = 0;
+        tail = size;
+    }
+}
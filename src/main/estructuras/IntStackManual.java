@@ -0,0 +1,129 @@
+import java.util.Arrays;
+
+/**
+ * Implementación de pila de enteros primitivos sobre un arreglo int[]
+ * Misma API que StackManual (push, pop, peek...) pero sin nodos ni boxing a Integer
+ * Complejidad: O(1) amortizado para push, O(1) para pop y peek
+ */
+public class IntStackManual {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] items;
+    private int size;
+
+    /**
+     * Constructor: crea una pila vacía
+     * Precondición: ninguna
+     * Postcondición: pila vacía con size = 0
+     */
+    public IntStackManual() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor: crea una pila vacía con capacidad inicial
+     * Precondición: initialCapacity >= 0
+     * Postcondición: pila vacía con size = 0
+     */
+    public IntStackManual(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacidad inválida: " + initialCapacity);
+        }
+        this.items = new int[Math.max(initialCapacity, 1)];
+        this.size = 0;
+    }
+
+    /**
+     * Agrega un elemento al tope de la pila
+     * Precondición: ninguna
+     * Postcondición: elemento agregado al tope, size incrementado
+     * Complejidad: O(1) amortizado (el arreglo duplica su tamaño al llenarse)
+     */
+    public void push(int value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[size++] = value;
+    }
+
+    /**
+     * Remueve y retorna el elemento del tope de la pila
+     * Precondición: pila no vacía
+     * Postcondición: elemento removido del tope, size decrementado
+     * Complejidad: O(1)
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException("No se puede hacer pop en una pila vacía");
+        }
+
+        return items[--size];
+    }
+
+    /**
+     * Retorna el elemento del tope sin removerlo
+     * Precondición: pila no vacía
+     * Postcondición: pila sin cambios
+     * Complejidad: O(1)
+     * @throws EmptyStackException si la pila está vacía
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException("No se puede hacer peek en una pila vacía");
+        }
+
+        return items[size - 1];
+    }
+
+    /**
+     * Verifica si la pila está vacía
+     * Complejidad: O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna el número de elementos en la pila
+     * Complejidad: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la pila conservando el arreglo (no hay referencias que liberar)
+     * Precondición: ninguna
+     * Postcondición: pila vacía con size = 0
+     * Complejidad: O(1)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Verifica si la pila contiene un elemento específico
+     * Complejidad: O(n)
+     */
+    public boolean contains(int value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convierte la pila a un arreglo, del tope a la base (mismo orden que StackManual)
+     * Complejidad: O(n)
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = items[size - 1 - i];
+        }
+        return array;
+    }
+}
@@ -1,20 +1,29 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * Implementación de lista simplemente enlazada genérica
- * Complejidad: O(1) para addFirst, addLast, removeFirst, removeLast
- *              O(n) para get, insertAt, removeAt
+ * Complejidad: O(1) para addFirst, addLast (mantiene tail), removeFirst
+ *              O(n) para removeLast, get, insertAt, removeAt
+ * Recorrido completo en O(n) con el iterador (for-each); el iterador es fail-fast
  */
-public class SinglyLinkedList<T> {
+public class SinglyLinkedList<T> implements Iterable<T> {
     private Node<T> head;
+    private Node<T> tail;
     private int size;
+    private int modCount; // Cambios estructurales, para que el iterador detecte modificaciones
     
     /**
      * Constructor: crea una lista vacía
      * Precondición: ninguna
-     * Postcondición: lista vacía con size = 0
+     * Postcondición: lista vacía con size = 0, head = tail = null
      */
     public SinglyLinkedList() {
         this.head = null;
+        this.tail = null;
         this.size = 0;
+        this.modCount = 0;
     }
     
     /**
@@ -27,14 +36,18 @@ public class SinglyLinkedList<T> {
         Node<T> newNode = new Node<>(value);
         newNode.setNext(head);
         head = newNode;
+        if (tail == null) {
+            tail = newNode;
+        }
         size++;
+        modCount++;
     }
     
     /**
      * Agrega un elemento al final de la lista
      * Precondición: ninguna
      * Postcondición: elemento agregado al final, size incrementado
-     * Complejidad: O(1) si se mantiene tail, O(n) en esta implementación
+     * Complejidad: O(1), se enlaza directamente después de tail
      */
     public void addLast(T value) {
         Node<T> newNode = new Node<>(value);
@@ -42,13 +55,11 @@ public class SinglyLinkedList<T> {
         if (isEmpty()) {
             head = newNode;
         } else {
-            Node<T> current = head;
-            while (current.getNext() != null) {
-                current = current.getNext();
-            }
-            current.setNext(newNode);
+            tail.setNext(newNode);
         }
+        tail = newNode;
         size++;
+        modCount++;
     }
     
     /**
@@ -65,7 +76,11 @@ public class SinglyLinkedList<T> {
         
         T data = head.getData();
         head = head.getNext();
+        if (head == null) {
+            tail = null;
+        }
         size--;
+        modCount++;
         return data;
     }
     
@@ -73,7 +88,7 @@ public class SinglyLinkedList<T> {
      * Remueve y retorna el último elemento de la lista
      * Precondición: lista no vacía
      * Postcondición: último elemento removido, size decrementado
-     * Complejidad: O(n)
+     * Complejidad: O(n), hay que encontrar el penúltimo nodo (la lista no tiene prev)
      * @throws EmptyListException si la lista está vacía
      */
     public T removeLast() {
@@ -84,7 +99,9 @@ public class SinglyLinkedList<T> {
         if (size == 1) {
             T data = head.getData();
             head = null;
+            tail = null;
             size = 0;
+            modCount++;
             return data;
         }
         
@@ -95,7 +112,9 @@ public class SinglyLinkedList<T> {
         
         T data = current.getNext().getData();
         current.setNext(null);
+        tail = current;
         size--;
+        modCount++;
         return data;
     }
     
@@ -141,7 +160,9 @@ public class SinglyLinkedList<T> {
      */
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
+        modCount++;
     }
     
     /**
@@ -175,6 +196,10 @@ public class SinglyLinkedList<T> {
             addFirst(value);
             return;
         }
+        if (index == size) {
+            addLast(value);
+            return;
+        }
         
         Node<T> newNode = new Node<>(value);
         Node<T> current = head;
@@ -185,6 +210,7 @@ public class SinglyLinkedList<T> {
         newNode.setNext(current.getNext());
         current.setNext(newNode);
         size++;
+        modCount++;
     }
     
     /**
@@ -210,7 +236,11 @@ public class SinglyLinkedList<T> {
         
         T data = current.getNext().getData();
         current.setNext(current.getNext().getNext());
+        if (current.getNext() == null) {
+            tail = current;
+        }
         size--;
+        modCount++;
         return data;
     }
     
@@ -232,6 +262,17 @@ public class SinglyLinkedList<T> {
         return array;
     }
     
+    /**
+     * Retorna un iterador de la cabeza a la cola
+     * Es fail-fast: si la lista cambia estructuralmente durante el recorrido,
+     * next() lanza ConcurrentModificationException
+     * Complejidad: O(1) por elemento, O(n) el recorrido completo (get(i) en un ciclo es O(n²))
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SinglyLinkedListIterator();
+    }
+    
     /**
      * Retorna una representación en cadena de la lista
      */
@@ -253,5 +294,30 @@ public class SinglyLinkedList<T> {
         sb.append("]");
         return sb.toString();
     }
+    
+    /**
+     * Iterador de la lista: avanza un nodo por llamada a next()
+     */
+    private class SinglyLinkedListIterator implements Iterator<T> {
+        private Node<T> next = head;
+        private final int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+        
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido");
+            }
+            if (next == null) {
+                throw new NoSuchElementException("No hay más elementos en la lista");
+            }
+            T data = next.getData();
+            next = next.getNext();
+            return data;
+        }
+    }
 }
-
@@ -0,0 +1,130 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deque de enteros para robo de trabajo (algoritmo de Chase y Lev)
+ * - Un único hilo dueño usa push/pop por el extremo inferior (orden LIFO, como una pila)
+ * - Cualquier otro hilo puede robar con steal() por el extremo superior (los elementos más antiguos)
+ * - Solo steal() y el pop del último elemento compiten, y lo resuelven con un CAS sobre top;
+ *   el resto de operaciones del dueño no usan CAS
+ * - El arreglo circular crece al doble cuando se llena (solo lo hace el dueño)
+ * Los valores se guardan como int primitivos (ids de celda); EMPTY indica "no hay elemento"
+ * Complejidad: O(1) amortizado para push, O(1) para pop y steal
+ */
+public class WorkStealingDeque {
+    /** Valor retornado por pop/steal cuando no obtienen elemento */
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicLong top = new AtomicLong();
+    private volatile long bottom;
+    private volatile int[] items;
+
+    /**
+     * Constructor: crea un deque vacío
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor: crea un deque vacío con al menos la capacidad indicada (potencia de 2)
+     * Precondición: 0 <= initialCapacity <= 2^30
+     */
+    public WorkStealingDeque(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad inválida: " + initialCapacity);
+        }
+        this.items = new int[Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1];
+        this.bottom = 0;
+    }
+
+    /**
+     * Agrega un valor por el extremo del dueño
+     * Precondición: solo la llama el hilo dueño; value != EMPTY
+     * Complejidad: O(1) amortizado
+     */
+    public void push(int value) {
+        long b = bottom;
+        long t = top.get();
+        int[] array = items;
+        if (b - t >= array.length) {
+            array = grow(array, t, b);
+        }
+        array[(int) b & (array.length - 1)] = value;
+        bottom = b + 1; // Escritura volatile: publica el valor para los ladrones
+    }
+
+    /**
+     * Remueve el valor más reciente (extremo del dueño)
+     * Precondición: solo la llama el hilo dueño
+     * @return el valor, o EMPTY si el deque está vacío o un ladrón se llevó el último
+     */
+    public int pop() {
+        long b = bottom - 1;
+        int[] array = items;
+        bottom = b; // Reservar el elemento antes de leer top (volatile: no se reordena con la lectura)
+        long t = top.get();
+
+        if (t > b) {
+            bottom = b + 1; // Estaba vacío: restaurar
+            return EMPTY;
+        }
+        int value = array[(int) b & (array.length - 1)];
+        if (t == b) {
+            // Último elemento: se compite con los ladrones por él
+            if (!top.compareAndSet(t, t + 1)) {
+                value = EMPTY;
+            }
+            bottom = b + 1;
+        }
+        return value;
+    }
+
+    /**
+     * Roba el valor más antiguo (extremo opuesto al dueño)
+     * Puede llamarla cualquier hilo
+     * @return el valor, o EMPTY si el deque está vacío o se perdió la carrera con otro hilo
+     */
+    public int steal() {
+        long t = top.get();
+        long b = bottom;
+        if (t >= b) {
+            return EMPTY;
+        }
+        int[] array = items;
+        int value = array[(int) t & (array.length - 1)];
+        if (!top.compareAndSet(t, t + 1)) {
+            return EMPTY; // Otro ladrón o el dueño lo tomó primero
+        }
+        return value;
+    }
+
+    /**
+     * Verifica si el deque está vacío (instantánea)
+     */
+    public boolean isEmpty() {
+        return bottom <= top.get();
+    }
+
+    /**
+     * Retorna el número aproximado de elementos (instantánea)
+     */
+    public int size() {
+        long size = bottom - top.get();
+        return (int) Math.max(0, size);
+    }
+
+    /**
+     * Duplica el arreglo copiando los elementos vivos [t, b) en sus mismas posiciones lógicas
+     * Los ladrones que aún lean el arreglo viejo ven valores válidos: no se modifica
+     */
+    private int[] grow(int[] array, long t, long b) {
+        int[] grown = new int[array.length * 2];
+        for (long i = t; i < b; i++) {
+            grown[(int) i & (grown.length - 1)] = array[(int) i & (array.length - 1)];
+        }
+        items = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,192 @@
+import java.util.*;
+
+/**
+ * Resuelve lotes de consultas (start, end) compartiendo un BFS por cada inicio distinto
+ * - Agrupa las consultas por inicio (en el orden en que aparece cada inicio)
+ * - Por grupo ejecuta un único BFS sobre GridGraph y responde todos sus destinos desde la
+ *   misma tabla de padres; el BFS se detiene cuando encontró todos los destinos del grupo
+ * - Los destinos en otra región se descartan antes con GridComponentIndex y no retrasan el corte
+ * Como el BFS usa el mismo orden de cola que MatrixPathFinder.findPathBFS (arriba, abajo,
+ * izquierda, derecha), cada ruta es idéntica a la que retornaría findPathBFS para esa consulta
+ * Los resultados se retornan en el orden de entrada
+ * Si la matriz se edita después de construirlo, hay que llamar a invalidate() antes del siguiente lote
+ */
+public class BatchPathFinder {
+    /**
+     * Consulta de ruta de start a end
+     */
+    public static final class Query {
+        public final Point start;
+        public final Point end;
+
+        public Query(Point start, Point end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return start + " -> " + end;
+        }
+    }
+
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Estado reutilizado entre grupos: frontera, vecinos, padres y destinos pendientes
+    private final int[] frontier;
+    private final int[] neighbors;
+    private final SearchWorkspace workspace;
+    private final int[] targetStamp; // targetStamp[cell] == stamp: cell es destino pendiente del grupo
+    private int stamp;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    private final GridGraph graph; // Transitabilidad copiada de la matriz (ver invalidate())
+
+    // Estadísticas del último lote
+    private int searches;
+    private long expandedCells;
+
+    public BatchPathFinder(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.graph = new GridGraph(matrix);
+        this.frontier = new int[rows * cols];
+        this.neighbors = new int[4];
+        this.workspace = new SearchWorkspace(rows * cols);
+        this.targetStamp = new int[rows * cols];
+        this.stamp = 0;
+    }
+
+    /**
+     * Resuelve todas las consultas del lote
+     * @return una ruta por consulta, en el orden de entrada (lista vacía si no hay ruta)
+     */
+    public List<List<Point>> findPaths(List<Query> queries) {
+        GridComponentIndex index = componentIndex;
+        searches = 0;
+        expandedCells = 0;
+
+        // Agrupar los índices de consulta por inicio
+        Map<Point, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            groups.computeIfAbsent(queries.get(i).start, start -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Point>> results = new ArrayList<>(Collections.nCopies(queries.size(), null));
+        for (Map.Entry<Point, List<Integer>> group : groups.entrySet()) {
+            Point start = group.getKey();
+            int startId = graph.idOf(start);
+            nextStamp();
+
+            // Marcar los destinos alcanzables; los demás se responden vacíos sin buscar
+            int pending = 0;
+            for (int queryIndex : group.getValue()) {
+                Point end = queries.get(queryIndex).end;
+                if (!index.canReach(start, end)) {
+                    results.set(queryIndex, new ArrayList<>());
+                } else if (targetStamp[graph.idOf(end)] != stamp) {
+                    targetStamp[graph.idOf(end)] = stamp;
+                    pending++;
+                }
+            }
+            if (pending > 0) {
+                searchTargets(graph, startId, pending);
+            }
+
+            // Responder cada destino desde la tabla de padres compartida
+            for (int queryIndex : group.getValue()) {
+                if (results.get(queryIndex) == null) {
+                    results.set(queryIndex, workspace.pathTo(graph.idOf(queries.get(queryIndex).end), cols));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Conveniencia: resuelve un lote dado como arreglos paralelos de inicios y destinos
+     * Precondición: starts.length == ends.length
+     */
+    public List<List<Point>> findPaths(Point[] starts, Point[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("Se esperaban tantos inicios como destinos: "
+                + starts.length + " vs " + ends.length);
+        }
+        List<Query> queries = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            queries.add(new Query(starts[i], ends[i]));
+        }
+        return findPaths(queries);
+    }
+
+    /**
+     * Avisa que la matriz se editó: vuelve a copiar la transitabilidad al grafo
+     * y la próxima consulta recalcula el índice de componentes
+     * Complejidad: O(rows * cols)
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        graph.refresh();
+    }
+
+    /**
+     * Retorna cuántos BFS ejecutó el último lote (uno por inicio con algún destino alcanzable)
+     */
+    public int getSearchCount() {
+        return searches;
+    }
+
+    /**
+     * Retorna cuántas celdas se expandieron en total en el último lote
+     */
+    public long getExpandedCells() {
+        return expandedCells;
+    }
+
+    /**
+     * BFS desde startId hasta encontrar los pending destinos marcados con el sello actual
+     */
+    private void searchTargets(GridGraph graph, int startId, int pending) {
+        searches++;
+        workspace.beginQuery();
+        int head = 0;
+        int tail = 0;
+        frontier[tail++] = startId;
+        workspace.visit(startId, -1);
+
+        while (head < tail) {
+            int current = frontier[head++];
+            expandedCells++;
+
+            if (targetStamp[current] == stamp && --pending == 0) {
+                return; // Todos los destinos del grupo tienen padre
+            }
+
+            // Explorar vecinos libres
+            int count = graph.neighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!workspace.isVisited(neighbor)) {
+                    workspace.visit(neighbor, current);
+                    frontier[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Avanza el sello de destinos; al desbordarse limpia el arreglo
+     */
+    private void nextStamp() {
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(targetStamp, 0);
+            stamp = 1;
+        }
+    }
+}
@@ -215,6 +215,108 @@ public class CollectionsPerformanceComparator {
         }
     }
     
+    /**
+     * Compara HashSet<Point> con el hash anterior (row * 1000 + col) contra el hash actual
+     * en matrices anchas de 5000 columnas, donde el hash anterior colisiona
+     */
+    public void comparePointHashing() {
+        System.out.println("=== COMPARACIÓN: HASH DE POINT EN MATRICES ANCHAS ===");
+        System.out.println("HashSet con hash row * 1000 + col vs hash actual de Point");
+        System.out.println("Inserción por filas y búsqueda de todas las celdas en orden aleatorio");
+        System.out.println();
+        
+        int cols = 5000;
+        int[] rowCounts = {20, 200};
+        Random random = new Random(42);
+        
+        for (int rows : rowCounts) {
+            int n = rows * cols;
+            System.out.println("Probando con " + rows + "x" + cols + " celdas (" + n + " puntos):");
+            
+            // Orden aleatorio de búsqueda (Fisher-Yates sobre los ids de celda)
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+            
+            long legacyTime = 0;
+            long currentTime = 0;
+            for (int round = 0; round < 2; round++) { // La ronda 0 es calentamiento
+                // Hash anterior
+                long startTime = System.nanoTime();
+                Set<LegacyPoint> legacySet = new HashSet<>();
+                for (int r = 0; r < rows; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        legacySet.add(new LegacyPoint(r, c));
+                    }
+                }
+                for (int id : order) {
+                    legacySet.contains(new LegacyPoint(id / cols, id % cols));
+                }
+                legacyTime = System.nanoTime() - startTime;
+                
+                // Hash actual de Point
+                startTime = System.nanoTime();
+                Set<Point> pointSet = new HashSet<>();
+                for (int r = 0; r < rows; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        pointSet.add(new Point(r, c));
+                    }
+                }
+                for (int id : order) {
+                    pointSet.contains(new Point(id / cols, id % cols));
+                }
+                currentTime = System.nanoTime() - startTime;
+            }
+            
+            // Número de valores de hash distintos (con el hash anterior varias celdas comparten valor)
+            Set<Integer> legacyHashes = new HashSet<>();
+            Set<Integer> currentHashes = new HashSet<>();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    legacyHashes.add(new LegacyPoint(r, c).hashCode());
+                    currentHashes.add(new Point(r, c).hashCode());
+                }
+            }
+            
+            printComparison("Hash anterior", "Hash actual", legacyTime, currentTime);
+            System.out.printf("    %-20s %d vs %d%n", "Hashes distintos:", legacyHashes.size(), currentHashes.size());
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Point con el hash anterior, conservado solo como referencia para comparePointHashing
+     */
+    private static class LegacyPoint {
+        private final int row;
+        private final int col;
+        
+        LegacyPoint(int row, int col) {
+            this.row = row;
+            this.col = col;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            LegacyPoint point = (LegacyPoint) obj;
+            return row == point.row && col == point.col;
+        }
+        
+        @Override
+        public int hashCode() {
+            return row * 1000 + col;
+        }
+    }
+    
     private void printComparison(String name1, String name2, long time1, long time2) {
         System.out.printf("    %-20s %8.2f ms%n", name1 + ":", time1 / 1_000_000.0);
         System.out.printf("    %-20s %8.2f ms%n", name2 + ":", time2 / 1_000_000.0);
@@ -238,6 +340,7 @@ public class CollectionsPerformanceComparator {
         compareListVsSetSearch();
         compareMapOperations();
         compareSetImplementations();
+        comparePointHashing();
         
         System.out.println("=".repeat(70));
         System.out.println("ANÁLISIS DE COMPLEJIDAD TEÓRICA:");
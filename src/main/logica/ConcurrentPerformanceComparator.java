@@ -0,0 +1,463 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Clase para verificar y comparar las estructuras concurrentes manuales contra las del JDK
+ * - Pruebas de estrés con varios productores y consumidores (sin pérdidas ni duplicados)
+ * - Throughput (operaciones por segundo) con 1 a 32 hilos y contención sobre una pila compartida
+ * - Relleno paralelo con robo de trabajo: verificación y speedup según el número de hilos
+ */
+public class ConcurrentPerformanceComparator {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    /**
+     * Prueba de estrés de ConcurrentQueueManual: P productores encolan valores únicos
+     * mientras C consumidores los extraen con poll()
+     * Verifica que cada valor se extraiga exactamente una vez y que el orden FIFO
+     * se respete para los valores de un mismo productor
+     * @return true si la prueba pasa
+     */
+    public boolean stressTestQueue(int producers, int consumers, int perProducer) {
+        ConcurrentQueueManual<Long> queue = new ConcurrentQueueManual<>();
+        int total = producers * perProducer;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicBoolean orderViolation = new AtomicBoolean(false);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            final long producerId = p;
+            threads.add(new Thread(() -> {
+                awaitQuietly(startSignal);
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue((producerId << 32) | i); // Productor en los bits altos, secuencia en los bajos
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                awaitQuietly(startSignal);
+                int[] lastSequence = new int[producers];
+                Arrays.fill(lastSequence, -1);
+                while (consumed.get() < total) {
+                    Long value = queue.poll();
+                    if (value == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    int producer = (int) (value >>> 32);
+                    int sequence = (int) (long) value;
+                    // Un mismo consumidor debe ver los valores de cada productor en orden creciente
+                    if (sequence <= lastSequence[producer]) {
+                        orderViolation.set(true);
+                    }
+                    lastSequence[producer] = sequence;
+                    seen.incrementAndGet(producer * perProducer + sequence);
+                    consumed.incrementAndGet();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        startSignal.countDown();
+        joinAll(threads);
+
+        boolean ok = !orderViolation.get() && queue.isEmpty();
+        for (int i = 0; i < total && ok; i++) {
+            ok = seen.get(i) == 1;
+        }
+        return ok;
+    }
+
+    /**
+     * Ejecuta la prueba de estrés con distintas combinaciones de productores y consumidores
+     */
+    public void runQueueStressTests() {
+        System.out.println("=== PRUEBA DE ESTRÉS: ConcurrentQueueManual ===");
+        System.out.println("Productores/consumidores simultáneos; cada valor debe salir exactamente una vez");
+        System.out.println();
+
+        int[][] configurations = {{1, 1}, {4, 4}, {8, 2}, {2, 8}, {16, 16}};
+        for (int[] configuration : configurations) {
+            int producers = configuration[0];
+            int consumers = configuration[1];
+            boolean ok = stressTestQueue(producers, consumers, 200_000);
+            System.out.printf("  %2d productores / %2d consumidores: %s%n", producers, consumers, ok ? "OK" : "FALLÓ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Compara el throughput de ConcurrentQueueManual vs ConcurrentLinkedQueue con 1 a 32 hilos
+     * Cada hilo alterna enqueue y poll (carga mixta 50/50, la de una frontera compartida)
+     */
+    public void compareQueueThroughput() {
+        System.out.println("=== THROUGHPUT: ConcurrentQueueManual vs ConcurrentLinkedQueue ===");
+        System.out.println("Cada hilo alterna enqueue/poll; millones de operaciones por segundo");
+        System.out.println("(" + Runtime.getRuntime().availableProcessors() + " procesadores disponibles)");
+        System.out.println();
+
+        int operationsPerThread = 1_000_000;
+        System.out.printf("  %-8s %22s %22s%n", "Hilos", "ConcurrentQueueManual", "ConcurrentLinkedQueue");
+
+        for (int threads : THREAD_COUNTS) {
+            double manual = measureQueueThroughput(threads, operationsPerThread, true);
+            double jdk = measureQueueThroughput(threads, operationsPerThread, false);
+            System.out.printf("  %-8d %17.2f Mop/s %17.2f Mop/s%n", threads, manual, jdk);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Mide millones de operaciones por segundo (la mejor de 3 rondas, tras una de calentamiento)
+     */
+    private double measureQueueThroughput(int threads, int operationsPerThread, boolean manual) {
+        double best = 0;
+        for (int round = 0; round < 4; round++) {
+            ConcurrentQueueManual<Integer> manualQueue = new ConcurrentQueueManual<>();
+            Queue<Integer> jdkQueue = new ConcurrentLinkedQueue<>();
+            Runnable work = () -> {
+                Integer value = 42;
+                for (int i = 0; i < operationsPerThread; i += 2) {
+                    if (manual) {
+                        manualQueue.enqueue(value);
+                        manualQueue.poll();
+                    } else {
+                        jdkQueue.offer(value);
+                        jdkQueue.poll();
+                    }
+                }
+            };
+            long elapsed = runConcurrently(threads, work);
+            if (round > 0) {
+                best = Math.max(best, (double) threads * operationsPerThread / elapsed * 1_000);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Prueba de estrés de ConcurrentStackManual: cada hilo apila valores únicos y, cada dos
+     * push, hace un tryPop(); al final se vacía la pila desde el hilo principal
+     * Verifica que cada valor se extraiga exactamente una vez (nada perdido ni duplicado,
+     * tampoco los que pasaron por el arreglo de eliminación)
+     * @return true si la prueba pasa
+     */
+    public boolean stressTestStack(int threadCount, int perThread, int eliminationSize) {
+        ConcurrentStackManual<Integer> stack = new ConcurrentStackManual<>(eliminationSize);
+        int total = threadCount * perThread;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+
+        runConcurrently(threadCount, new Runnable() {
+            private final AtomicInteger nextThread = new AtomicInteger();
+
+            @Override
+            public void run() {
+                int base = nextThread.getAndIncrement() * perThread;
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if ((i & 1) == 1) { // Desapilar uno de cada dos para mantener la pila con contenido
+                        Integer value = stack.tryPop();
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                        }
+                    }
+                }
+            }
+        });
+
+        Integer value;
+        while ((value = stack.tryPop()) != null) {
+            seen.incrementAndGet(value);
+        }
+        for (int i = 0; i < total; i++) {
+            if (seen.get(i) != 1) {
+                return false;
+            }
+        }
+        return stack.isEmpty();
+    }
+
+    /**
+     * Ejecuta la prueba de estrés de la pila con y sin arreglo de eliminación
+     */
+    public void runStackStressTests() {
+        System.out.println("=== PRUEBA DE ESTRÉS: ConcurrentStackManual ===");
+        System.out.println("push/tryPop simultáneos; cada valor debe salir exactamente una vez");
+        System.out.println();
+
+        for (int threads : new int[] {2, 8, 32}) {
+            boolean plain = stressTestStack(threads, 200_000, 0);
+            boolean elimination = stressTestStack(threads, 200_000, Math.max(1, threads / 2));
+            System.out.printf("  %2d hilos: Treiber %s, con eliminación %s%n",
+                threads, plain ? "OK" : "FALLÓ", elimination ? "OK" : "FALLÓ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Benchmark de contención: todos los hilos hacen push/pop sobre la misma pila
+     * Compara la pila de Treiber con y sin eliminación contra una pila con candado global
+     * (ArrayDeque sincronizado), de 1 hilo hasta el número de procesadores
+     */
+    public void compareStackContention() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("=== CONTENCIÓN: ConcurrentStackManual vs pila con candado global ===");
+        System.out.println("Cada hilo alterna push/pop sobre una pila compartida; millones de operaciones por segundo");
+        System.out.println("(" + cores + " procesadores disponibles)");
+        System.out.println();
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        int operationsPerThread = 1_000_000;
+        System.out.printf("  %-8s %18s %18s %18s%n", "Hilos", "Treiber", "Treiber+elim.", "Candado global");
+        for (int threads : threadCounts) {
+            double plain = measureStackThroughput(threads, operationsPerThread, () -> {
+                ConcurrentStackManual<Integer> stack = new ConcurrentStackManual<>(0);
+                return new StackOps(stack::push, stack::tryPop);
+            });
+            double elimination = measureStackThroughput(threads, operationsPerThread, () -> {
+                ConcurrentStackManual<Integer> stack = new ConcurrentStackManual<>(Math.max(1, threads / 2));
+                return new StackOps(stack::push, stack::tryPop);
+            });
+            double locked = measureStackThroughput(threads, operationsPerThread, () -> {
+                Deque<Integer> deque = new ArrayDeque<>();
+                return new StackOps(
+                    value -> { synchronized (deque) { deque.push(value); } },
+                    () -> { synchronized (deque) { return deque.poll(); } });
+            });
+            System.out.printf("  %-8d %12.2f Mop/s %12.2f Mop/s %12.2f Mop/s%n", threads, plain, elimination, locked);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Par de operaciones push/pop de la pila medida
+     */
+    private static final class StackOps {
+        private final Consumer<Integer> push;
+        private final Supplier<Integer> pop;
+
+        StackOps(Consumer<Integer> push, Supplier<Integer> pop) {
+            this.push = push;
+            this.pop = pop;
+        }
+    }
+
+    /**
+     * Mide millones de operaciones por segundo (la mejor de 3 rondas, tras una de calentamiento)
+     */
+    private double measureStackThroughput(int threads, int operationsPerThread,
+                                          Supplier<StackOps> factory) {
+        double best = 0;
+        for (int round = 0; round < 4; round++) {
+            StackOps ops = factory.get();
+            Runnable work = () -> {
+                Integer value = 42;
+                for (int i = 0; i < operationsPerThread; i += 2) {
+                    ops.push.accept(value);
+                    ops.pop.get();
+                }
+            };
+            long elapsed = runConcurrently(threads, work);
+            if (round > 0) {
+                best = Math.max(best, (double) threads * operationsPerThread / elapsed * 1_000);
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Verifica ParallelReachability contra GridComponentIndex (secuencial) en matrices aleatorias:
+     * el conjunto de celdas alcanzadas debe coincidir exactamente, con cualquier número de hilos
+     * @return true si la prueba pasa
+     */
+    public boolean stressTestParallelReachability(int threads, int trials) {
+        Random random = new Random(7);
+        for (int trial = 0; trial < trials; trial++) {
+            int rows = 20 + random.nextInt(200);
+            int cols = 20 + random.nextInt(200);
+            char[][] matrix = createRandomMatrix(rows, cols, 0.2 + random.nextDouble() * 0.25, random.nextLong());
+            GridComponentIndex index = new GridComponentIndex(matrix);
+            ParallelReachability engine = new ParallelReachability(matrix, threads);
+
+            Point start = new Point(random.nextInt(rows), random.nextInt(cols));
+            BitSet reached = engine.reachableCells(start);
+            if (reached.cardinality() != engine.getVisitedCount()) {
+                return false; // Alguna celda se reclamó dos veces o se perdió
+            }
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    Point cell = new Point(row, col);
+                    boolean expected = start.equals(cell)
+                        || (matrix[row][col] != '#' && index.canReach(start, cell));
+                    if (reached.get(row * cols + col) != expected) {
+                        return false;
+                    }
+                }
+            }
+            Point end = new Point(random.nextInt(rows), random.nextInt(cols));
+            if (engine.isReachable(start, end) != index.canReach(start, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ejecuta la verificación del relleno paralelo con distintos números de hilos
+     */
+    public void runParallelReachabilityTests() {
+        System.out.println("=== VERIFICACIÓN: ParallelReachability (robo de trabajo) ===");
+        System.out.println("Celdas alcanzadas comparadas contra el etiquetado secuencial de componentes");
+        System.out.println();
+
+        for (int threads : new int[] {1, 2, 4, 8}) {
+            boolean passed = stressTestParallelReachability(threads, 30);
+            System.out.printf("  %2d hilos: %s%n", threads, passed ? "OK" : "FALLÓ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Benchmark de escalabilidad del relleno paralelo: recorre toda la región alcanzable
+     * de una matriz grande con 1 hilo hasta el número de procesadores y reporta el speedup
+     * respecto de 1 hilo; el DFS secuencial de MatrixPathFinder se incluye como referencia
+     */
+    public void compareParallelReachability() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int size = 4_000;
+        char[][] matrix = createRandomMatrix(size, size, 0.3, 42);
+        for (int i = 0; i < size; i++) {
+            matrix[0][i] = '.'; // Primera fila y última columna libres: inicio y destino en la componente grande
+            matrix[i][size - 1] = '.';
+        }
+        Point start = new Point(0, 0);
+        Point end = new Point(size - 1, size - 1);
+
+        System.out.println("=== ESCALABILIDAD: relleno paralelo con robo de trabajo ===");
+        System.out.println("Matriz " + size + "x" + size + " (" + (long) size * size + " celdas, 30% obstáculos)"
+            + "; " + cores + " procesadores disponibles");
+        System.out.println();
+
+        MatrixPathFinder sequential = new MatrixPathFinder(matrix);
+        sequential.findPathDFS(start, end); // Calentamiento
+        long dfsStart = System.nanoTime();
+        sequential.findPathDFS(start, end);
+        double dfsMs = (System.nanoTime() - dfsStart) / 1_000_000.0;
+        System.out.printf("  DFS secuencial (findPathDFS, hasta el destino): %10.2f ms%n", dfsMs);
+        System.out.println();
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(cores);
+
+        System.out.printf("  %-8s %14s %12s %16s%n", "Hilos", "Tiempo", "Speedup", "Celdas");
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            ParallelReachability engine = new ParallelReachability(matrix, threads);
+            double best = Double.MAX_VALUE;
+            long cells = 0;
+            for (int round = 0; round < 4; round++) {
+                cells = engine.countReachable(start);
+                if (round > 0) {
+                    best = Math.min(best, engine.getElapsedNanos() / 1_000_000.0);
+                }
+            }
+            if (threads == 1) {
+                baseline = best;
+            }
+            System.out.printf("  %-8d %11.2f ms %11.2fx %16d%n", threads, best, baseline / best, cells);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Crea una matriz aleatoria con la densidad de obstáculos indicada
+     */
+    private static char[][] createRandomMatrix(int rows, int cols, double obstacleDensity, long seed) {
+        Random random = new Random(seed);
+        char[][] matrix = new char[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                matrix[i][j] = random.nextDouble() < obstacleDensity ? '#' : '.';
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Ejecuta work en el número de hilos indicado, arrancándolos a la vez
+     * @return tiempo transcurrido en nanosegundos
+     */
+    private long runConcurrently(int threadCount, Runnable work) {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                awaitQuietly(startSignal);
+                work.run();
+            }));
+        }
+        threads.forEach(Thread::start);
+        long startTime = System.nanoTime();
+        startSignal.countDown();
+        joinAll(threads);
+        return System.nanoTime() - startTime;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) {
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Imprime el reporte completo de estructuras concurrentes
+     */
+    public void printReport() {
+        System.out.println("=".repeat(70));
+        System.out.println("REPORTE: ESTRUCTURAS CONCURRENTES MANUALES vs JDK");
+        System.out.println("=".repeat(70));
+        System.out.println();
+
+        runQueueStressTests();
+        compareQueueThroughput();
+        runStackStressTests();
+        compareStackContention();
+        runParallelReachabilityTests();
+        compareParallelReachability();
+
+        System.out.println("NOTAS:");
+        System.out.println("  - ConcurrentQueueManual: algoritmo de Michael-Scott, sin bloqueos (CAS)");
+        System.out.println("  - ConcurrentLinkedQueue usa el mismo algoritmo con optimizaciones adicionales");
+        System.out.println("  - ConcurrentStackManual: pila de Treiber; la eliminación anula pares push/pop");
+        System.out.println("    concurrentes fuera del tope y rinde más cuanto mayor es la contención");
+        System.out.println("  - ParallelReachability: cada hilo expande en DFS desde su deque de Chase-Lev y roba");
+        System.out.println("    las celdas más antiguas de otros; un bitset atómico reclama cada celda una sola vez");
+        System.out.println("  - Con más hilos que procesadores el throughput deja de escalar");
+        System.out.println();
+    }
+}
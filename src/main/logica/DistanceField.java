@@ -0,0 +1,261 @@
+import java.util.*;
+
+/**
+ * Campo de distancias hacia uno o varios objetivos, calculado con un único BFS multi-fuente
+ * - Todos los objetivos entran a la cola con distancia 0; cada celda libre queda con la
+ *   distancia a su objetivo más cercano (-1 si no alcanza ninguno)
+ * - Campo de flujo: para cada celda se guarda la dirección del vecino que la descubrió,
+ *   que está un paso más cerca de un objetivo. Un agente avanza con nextStep() en O(1)
+ *   sin búsqueda propia, y pathFrom() sigue el flujo hasta el objetivo
+ * - Las rutas que sigue el flujo son de longitud mínima, como las de findPathBFS; igual que
+ *   findPathBFS, un inicio sobre '#' sale hacia su vecino libre más cercano a un objetivo
+ * Se calcula sobre una instantánea de la matriz: si la matriz cambia, hay que construir otro campo
+ * Complejidad: O(rows * cols) para construirlo, O(1) por paso de agente
+ */
+public class DistanceField {
+    // Direcciones del flujo (hacia dónde moverse): arriba, abajo, izquierda, derecha
+    private static final byte UP = 0;
+    private static final byte DOWN = 1;
+    private static final byte LEFT = 2;
+    private static final byte RIGHT = 3;
+    private static final byte GOAL = 4;
+    private static final byte NONE = 5;
+
+    private final int rows;
+    private final int cols;
+    private final int[] distance;
+    private final byte[] flow;
+    private int goalCount;
+    private int reachableCount;
+    private int maxDistance;
+
+    /**
+     * Constructor: campo hacia las celdas indicadas
+     * Los objetivos sobre '#' se ignoran (igual que en findPathBFS un fin sobre '#' no es alcanzable)
+     * Complejidad: O(rows * cols)
+     */
+    public DistanceField(char[][] matrix, Collection<Point> goals) {
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.distance = new int[rows * cols];
+        this.flow = new byte[rows * cols];
+        build(new GridGraph(matrix), goals);
+    }
+
+    /**
+     * Crea el campo hacia todas las celdas marcadas con el carácter indicado (p. ej. 'E')
+     */
+    public static DistanceField toMarkedCells(char[][] matrix, char mark) {
+        List<Point> goals = new ArrayList<>();
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] == mark) {
+                    goals.add(new Point(row, col));
+                }
+            }
+        }
+        return new DistanceField(matrix, goals);
+    }
+
+    /**
+     * BFS multi-fuente: distancia y dirección de flujo de cada celda alcanzada
+     */
+    private void build(GridGraph graph, Collection<Point> goals) {
+        Arrays.fill(distance, -1);
+        Arrays.fill(flow, NONE);
+        int[] queue = new int[rows * cols];
+        int head = 0;
+        int tail = 0;
+
+        for (Point goal : goals) {
+            int id = graph.idOf(goal);
+            if (graph.isPassable(id) && distance[id] < 0) {
+                distance[id] = 0;
+                flow[id] = GOAL;
+                queue[tail++] = id;
+            }
+        }
+        goalCount = tail;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int row = current / cols;
+            int col = current - row * cols;
+            int nextDistance = distance[current] + 1;
+
+            // El vecino descubierto debe moverse en la dirección opuesta para llegar a current
+            if (row > 0) {
+                tail = discover(graph, queue, tail, current - cols, nextDistance, DOWN);
+            }
+            if (row < rows - 1) {
+                tail = discover(graph, queue, tail, current + cols, nextDistance, UP);
+            }
+            if (col > 0) {
+                tail = discover(graph, queue, tail, current - 1, nextDistance, RIGHT);
+            }
+            if (col < cols - 1) {
+                tail = discover(graph, queue, tail, current + 1, nextDistance, LEFT);
+            }
+        }
+        reachableCount = tail;
+        maxDistance = tail > 0 ? distance[queue[tail - 1]] : -1;
+    }
+
+    private int discover(GridGraph graph, int[] queue, int tail, int cell, int cellDistance, byte direction) {
+        if (distance[cell] < 0 && graph.isPassable(cell)) {
+            distance[cell] = cellDistance;
+            flow[cell] = direction;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * Retorna la distancia de la celda al objetivo más cercano, o -1 si no alcanza ninguno
+     * Para una celda '#' cuenta el paso hacia su mejor vecino libre
+     * Complejidad: O(1)
+     */
+    public int getDistance(Point cell) {
+        int id = cell.row * cols + cell.col;
+        if (distance[id] >= 0) {
+            return distance[id];
+        }
+        int exit = exitNeighbor(id);
+        return exit < 0 ? -1 : distance[exit] + 1;
+    }
+
+    /**
+     * Indica si desde la celda se llega a algún objetivo
+     * Complejidad: O(1)
+     */
+    public boolean isReachable(Point cell) {
+        return getDistance(cell) >= 0;
+    }
+
+    /**
+     * Indica si la celda es uno de los objetivos
+     */
+    public boolean isGoal(Point cell) {
+        return flow[cell.row * cols + cell.col] == GOAL;
+    }
+
+    /**
+     * Retorna la celda a la que debe moverse un agente para acercarse un paso al objetivo
+     * Complejidad: O(1)
+     * @return el siguiente paso, la misma celda si ya es un objetivo, o null si no alcanza ninguno
+     */
+    public Point nextStep(Point cell) {
+        int next = nextStep(cell.row * cols + cell.col);
+        return next < 0 ? null : new Point(next / cols, next % cols);
+    }
+
+    /**
+     * Versión por ids (row * cols + col) de nextStep, sin crear objetos Point
+     * Desde una celda '#' el siguiente paso es su mejor vecino libre (ver exitNeighbor)
+     * @return id del siguiente paso, el mismo id si ya es un objetivo, o -1 si no alcanza ninguno
+     */
+    public int nextStep(int cell) {
+        switch (flow[cell]) {
+            case UP:
+                return cell - cols;
+            case DOWN:
+                return cell + cols;
+            case LEFT:
+                return cell - 1;
+            case RIGHT:
+                return cell + 1;
+            case GOAL:
+                return cell;
+            default:
+                return exitNeighbor(cell);
+        }
+    }
+
+    /**
+     * Vecino con la menor distancia a un objetivo (arriba, abajo, izquierda, derecha ante empates)
+     * Solo una celda '#' puede tener un vecino alcanzado sin haberlo sido ella: así sale al
+     * primer paso, igual que findPathBFS con un inicio sobre '#'
+     * @return id del vecino, o -1 si ninguno alcanza un objetivo
+     */
+    private int exitNeighbor(int cell) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        int best = -1;
+        if (row > 0) {
+            best = closer(best, cell - cols);
+        }
+        if (row < rows - 1) {
+            best = closer(best, cell + cols);
+        }
+        if (col > 0) {
+            best = closer(best, cell - 1);
+        }
+        if (col < cols - 1) {
+            best = closer(best, cell + 1);
+        }
+        return best;
+    }
+
+    private int closer(int best, int candidate) {
+        if (distance[candidate] < 0) {
+            return best;
+        }
+        return best < 0 || distance[candidate] < distance[best] ? candidate : best;
+    }
+
+    /**
+     * Sigue el flujo desde la celda hasta su objetivo más cercano
+     * Complejidad: O(longitud de la ruta)
+     * @return ruta desde start hasta el objetivo (inclusive), o lista vacía si no alcanza ninguno
+     */
+    public List<Point> pathFrom(Point start) {
+        int current = start.row * cols + start.col;
+        int length = getDistance(start);
+        if (length < 0) {
+            return new ArrayList<>();
+        }
+        List<Point> path = new ArrayList<>(length + 1);
+        path.add(new Point(start.row, start.col));
+        while (flow[current] != GOAL) {
+            current = nextStep(current);
+            path.add(new Point(current / cols, current % cols));
+        }
+        return path;
+    }
+
+    /**
+     * Retorna una copia del mapa de distancias indexado por id (row * cols + col)
+     */
+    public int[] toDistanceArray() {
+        return Arrays.copyOf(distance, distance.length);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Retorna el número de objetivos válidos (libres y sin repetir)
+     */
+    public int getGoalCount() {
+        return goalCount;
+    }
+
+    /**
+     * Retorna el número de celdas desde las que se alcanza algún objetivo (incluidos los objetivos)
+     */
+    public int getReachableCount() {
+        return reachableCount;
+    }
+
+    /**
+     * Retorna la mayor distancia del campo, o -1 si no hay objetivos válidos
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+}
@@ -0,0 +1,379 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * BFS en memoria externa (Munagala y Ranade) para grillas que no caben en el heap como char[][]
+ * - La grilla se lee del archivo de texto (una fila por línea, '#' = obstáculo) sin cargarla:
+ *   solo se consultan las celdas candidatas de cada nivel, en orden creciente de posición
+ * - Cada nivel del BFS se escribe en un archivo temporal con los ids (row * cols + col)
+ *   ordenados, codificados como diferencias de longitud variable
+ * - El nivel t + 1 sale de una sola mezcla secuencial: los vecinos de arriba, izquierda,
+ *   derecha y abajo del nivel t son cuatro lecturas del mismo archivo ordenado (cada una ya
+ *   está ordenada), y se descartan los repetidos y los que están en los niveles t y t - 1
+ *   (en un grafo no dirigido ningún vecino puede estar en un nivel anterior a esos)
+ * Todos los accesos a disco son secuenciales; el heap solo guarda los búferes de los archivos
+ * Costo de E/S por nivel: lectura de los niveles t - 1, t, t + 1 y de la parte de la grilla
+ * que cubren las filas del nivel
+ */
+public class ExternalMemoryBFS {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GRID_WINDOW = 1 << 13;
+
+    private final Path gridFile;
+    private final Path tempDirectory;
+    private final int rows;
+    private final int cols;
+    private final long rowStride; // Bytes por fila en el archivo, incluido el fin de línea
+
+    // Resultados del último run
+    private long distance;
+    private int levels;
+    private long reachableCells;
+    private long maxLayerSize;
+    private long bytesWritten;
+    private long elapsedNanos;
+
+    /**
+     * Constructor: lee solo la primera línea del archivo para conocer las dimensiones
+     * Precondición: todas las líneas tienen el mismo largo y el mismo fin de línea ("\n" o "\r\n")
+     * @param tempDirectory directorio donde se crean (y se borran) los archivos de niveles
+     */
+    public ExternalMemoryBFS(Path gridFile, Path tempDirectory) throws IOException {
+        this.gridFile = gridFile;
+        this.tempDirectory = tempDirectory;
+
+        int width = 0;
+        int terminator = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(gridFile), BUFFER_SIZE)) {
+            int value;
+            while ((value = in.read()) != -1 && value != '\n') {
+                width++;
+            }
+            terminator = value == '\n' ? 1 : 0;
+        }
+        long size = Files.size(gridFile);
+        if (width > 0 && terminator == 1) {
+            try (FileChannel channel = FileChannel.open(gridFile, StandardOpenOption.READ)) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, width - 1);
+                if (last.get(0) == '\r') {
+                    width--; // Fin de línea "\r\n"
+                    terminator = 2;
+                }
+            }
+        }
+        if (width == 0) {
+            throw new IllegalArgumentException("El archivo de grilla está vacío: " + gridFile);
+        }
+        this.cols = width;
+        this.rowStride = (long) width + terminator;
+        this.rows = (int) ((size + terminator) / rowStride); // La última línea puede no tener fin de línea
+    }
+
+    /**
+     * Escribe una matriz en el formato que lee esta clase (una fila por línea)
+     */
+    public static void writeGrid(char[][] matrix, Path file) throws IOException {
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.US_ASCII), BUFFER_SIZE)) {
+            for (char[] row : matrix) {
+                out.write(row);
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Ejecuta el BFS desde start hasta agotar la región o alcanzar target
+     * Misma semántica que findPathBFS: un inicio sobre '#' puede salir, un fin sobre '#' no es alcanzable
+     * Postcondición: estadísticas disponibles en los getters; los archivos temporales se borran
+     * @param target celda buscada, o null para recorrer toda la región alcanzable
+     * @return la distancia de start a target, -1 si no se alcanza (o si target es null)
+     */
+    public long run(Point start, Point target) throws IOException {
+        long startTime = System.nanoTime();
+        distance = -1;
+        levels = 0;
+        reachableCells = 1;
+        maxLayerSize = 1;
+        bytesWritten = 0;
+
+        long startId = (long) start.row * cols + start.col;
+        long targetId = target == null ? -1 : (long) target.row * cols + target.col;
+        Path older = null;    // Nivel t - 1
+        Path current = newLayerFile();
+        try (LayerWriter writer = new LayerWriter(current)) {
+            writer.write(startId);
+        }
+
+        try {
+            if (startId == targetId) {
+                distance = 0;
+                return distance;
+            }
+            while (true) {
+                Path next = newLayerFile();
+                long written;
+                boolean found;
+                try (LayerWriter writer = new LayerWriter(next)) {
+                    found = expand(current, older, writer, targetId);
+                    written = writer.count;
+                    bytesWritten += writer.bytes;
+                }
+                if (written == 0) {
+                    Files.delete(next);
+                    break;
+                }
+                levels++;
+                reachableCells += written;
+                maxLayerSize = Math.max(maxLayerSize, written);
+                if (older != null) {
+                    Files.delete(older);
+                }
+                older = current;
+                current = next;
+                if (found) {
+                    distance = levels;
+                    break;
+                }
+            }
+        } finally {
+            Files.deleteIfExists(current);
+            if (older != null) {
+                Files.deleteIfExists(older);
+            }
+            elapsedNanos = System.nanoTime() - startTime;
+        }
+        return distance;
+    }
+
+    /**
+     * Mezcla secuencial que produce el nivel t + 1 a partir de los niveles t y t - 1
+     * @return true si el nivel nuevo contiene targetId (se deja de escribir en cuanto aparece)
+     */
+    private boolean expand(Path current, Path older, LayerWriter writer, long targetId) throws IOException {
+        try (LayerReader up = new LayerReader(current, -cols);
+             LayerReader left = new LayerReader(current, -1);
+             LayerReader right = new LayerReader(current, 1);
+             LayerReader down = new LayerReader(current, cols);
+             LayerReader sameLevel = new LayerReader(current, 0);
+             LayerReader previousLevel = older == null ? null : new LayerReader(older, 0);
+             GridWindow grid = new GridWindow()) {
+            LayerReader[] neighbors = {up, left, right, down};
+            while (true) {
+                // Menor candidato de las cuatro corrientes; las que lo repiten avanzan juntas
+                long candidate = Long.MAX_VALUE;
+                for (LayerReader stream : neighbors) {
+                    candidate = Math.min(candidate, stream.peek());
+                }
+                if (candidate == Long.MAX_VALUE) {
+                    return false;
+                }
+                for (LayerReader stream : neighbors) {
+                    if (stream.peek() == candidate) {
+                        stream.advance();
+                    }
+                }
+
+                if (sameLevel.skipTo(candidate) || (previousLevel != null && previousLevel.skipTo(candidate))
+                    || !grid.isPassable(candidate)) {
+                    continue;
+                }
+                writer.write(candidate);
+                if (candidate == targetId) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private Path newLayerFile() throws IOException {
+        return Files.createTempFile(tempDirectory, "bfs-nivel-", ".bin");
+    }
+
+    /**
+     * Distancia de start a target del último run, o -1 si no se alcanzó
+     */
+    public long getDistance() {
+        return distance;
+    }
+
+    /**
+     * Número de niveles generados después del nivel 0
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Celdas alcanzadas (todas, si el run terminó por agotar la región)
+     */
+    public long getReachableCells() {
+        return reachableCells;
+    }
+
+    public long getMaxLayerSize() {
+        return maxLayerSize;
+    }
+
+    /**
+     * Bytes escritos en archivos de niveles durante el último run
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Escritor de un nivel: ids crecientes como diferencias con el anterior (varint, 7 bits por byte)
+     */
+    private static final class LayerWriter implements Closeable {
+        private final OutputStream out;
+        private long last = -1;
+        long count;
+        long bytes;
+
+        LayerWriter(Path file) throws IOException {
+            this.out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        }
+
+        void write(long id) throws IOException {
+            long delta = id - last;
+            last = id;
+            count++;
+            while (delta >= 0x80) {
+                out.write((int) (delta & 0x7F) | 0x80);
+                delta >>>= 7;
+                bytes++;
+            }
+            out.write((int) delta);
+            bytes++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Lector secuencial de un nivel; con offset distinto de 0 entrega los vecinos en esa
+     * dirección que quedan dentro de la grilla (id + offset), que siguen en orden creciente
+     */
+    private final class LayerReader implements Closeable {
+        private final InputStream in;
+        private final int offset;
+        private long last = -1;
+        private long head; // Siguiente valor, o Long.MAX_VALUE al terminar
+
+        LayerReader(Path file, int offset) throws IOException {
+            this.in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+            this.offset = offset;
+            advance();
+        }
+
+        long peek() {
+            return head;
+        }
+
+        void advance() throws IOException {
+            while (true) {
+                long id = readId();
+                if (id < 0) {
+                    head = Long.MAX_VALUE;
+                    return;
+                }
+                long col = id % cols;
+                boolean inside = offset == 0
+                    || (offset == -1 && col > 0)
+                    || (offset == 1 && col < cols - 1)
+                    || (offset == -cols && id >= cols)
+                    || (offset == cols && id < (long) (rows - 1) * cols);
+                if (inside) {
+                    head = id + offset;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Avanza hasta el primer valor >= id
+         * @return true si id está en el nivel
+         */
+        boolean skipTo(long id) throws IOException {
+            while (head < id) {
+                advance();
+            }
+            return head == id;
+        }
+
+        private long readId() throws IOException {
+            long delta = 0;
+            int shift = 0;
+            int value;
+            do {
+                value = in.read();
+                if (value == -1) {
+                    return -1;
+                }
+                delta |= (long) (value & 0x7F) << shift;
+                shift += 7;
+            } while ((value & 0x80) != 0);
+            last += delta;
+            return last;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Ventana de lectura de la grilla que solo avanza: cada consulta es una posición mayor o
+     * igual a la anterior, así que el archivo se recorre una vez por nivel saltando lo que no se usa
+     */
+    private final class GridWindow implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer window = ByteBuffer.allocate(GRID_WINDOW);
+        private long windowStart = -1;
+        private int windowLength;
+
+        GridWindow() throws IOException {
+            this.channel = FileChannel.open(gridFile, StandardOpenOption.READ);
+        }
+
+        boolean isPassable(long id) throws IOException {
+            long position = id / cols * rowStride + id % cols;
+            if (windowStart < 0 || position >= windowStart + windowLength) {
+                window.clear();
+                windowStart = position;
+                windowLength = 0;
+                int read;
+                while (window.hasRemaining() && (read = channel.read(window, windowStart + windowLength)) > 0) {
+                    windowLength += read;
+                }
+            }
+            return window.get((int) (position - windowStart)) != '#';
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
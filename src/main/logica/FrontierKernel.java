@@ -0,0 +1,43 @@
+/**
+ * Núcleo que expande un tramo de palabras de la frontera por bitsets (MatrixPathFinderBitset)
+ * Para cada palabra w del tramo [from, to) de la fila que empieza en rowBase:
+ *   alcanzadas = (frontera << 1 | >>> 1 | acarreos de w-1 y w+1 | fila de arriba | fila de abajo)
+ *                & libres & ~visitados
+ * y escribe next[w] = alcanzadas, visited[w] |= alcanzadas y los planos de distancia mod 3
+ *
+ * Implementaciones:
+ * - ScalarFrontierKernel: una palabra (64 celdas) por iteración, siempre disponible
+ * - VectorFrontierKernel (src/vector, perfil "vector" del pom): varias palabras por instrucción
+ *   con jdk.incubator.vector; se carga por reflexión y, si el módulo no está, se usa la escalar
+ */
+public interface FrontierKernel {
+    /**
+     * Expande las palabras [from, to) de una fila
+     * @param rowBase índice de la palabra 0 de la fila en los arreglos
+     * @param words palabras por fila (distancia entre una fila y la siguiente)
+     * @param hasUp / hasDown si existe la fila de arriba / abajo
+     * @param mod distancia del nivel nuevo módulo 3 (bit 0 en modLow, bit 1 en modHigh)
+     * @return true si alguna celda quedó alcanzada
+     */
+    boolean expand(long[] frontier, long[] passable, long[] visited, long[] next,
+                   long[] modLow, long[] modHigh, int rowBase, int words,
+                   int from, int to, boolean hasUp, boolean hasDown, int mod);
+
+    /**
+     * Nombre para reportes
+     */
+    String getName();
+
+    /**
+     * Retorna el mejor núcleo disponible: el vectorial si está compilado y el módulo
+     * jdk.incubator.vector está presente (--add-modules), o el escalar en otro caso
+     */
+    static FrontierKernel best() {
+        try {
+            Class<?> vectorKernel = Class.forName("VectorFrontierKernel");
+            return (FrontierKernel) vectorKernel.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarFrontierKernel(); // Clase no compilada o módulo ausente
+        }
+    }
+}
@@ -0,0 +1,176 @@
+import java.util.Arrays;
+
+/**
+ * Índice de componentes conexas de una matriz char[][] ('#' = obstáculo, 4-conectividad)
+ * - Se calcula con relleno por barrido de líneas (scanline flood fill) en la primera consulta
+ * - Permite rechazar en O(1) una consulta cuyo inicio y fin están en regiones distintas,
+ *   que es el peor caso de findPathBFS (explora toda la región alcanzable para nada)
+ * - Las etiquetas son una instantánea de la matriz: tras editarla hay que llamar a invalidate()
+ *   y la siguiente consulta las recalcula
+ * Cada buscador guarda su propio índice y lo consulta antes de explorar
+ */
+public class GridComponentIndex {
+    private static final int UNLABELED = 0;
+    private static final int OBSTACLE = -1;
+
+    private final char[][] matrix;
+    private final int rows;
+    private final int cols;
+    private int[] labels; // labels[row * cols + col] = componente (>= 1) o OBSTACLE
+    private int componentCount;
+    private boolean built;
+
+    /**
+     * Constructor: no recorre la matriz; las etiquetas se calculan en la primera consulta
+     * Complejidad: O(1)
+     */
+    public GridComponentIndex(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.built = false;
+    }
+
+    /**
+     * Descarta las etiquetas tras una edición de la matriz; la siguiente consulta las recalcula
+     * Complejidad: O(1)
+     */
+    public void invalidate() {
+        built = false;
+    }
+
+    /**
+     * Indica si puede existir una ruta de start a end, con la misma semántica que findPathBFS:
+     * - start == end siempre es alcanzable
+     * - un fin sobre '#' nunca es alcanzable
+     * - un inicio sobre '#' alcanza las componentes de sus vecinos libres
+     * Complejidad: O(1), salvo la primera consulta tras construir o invalidar: O(rows * cols)
+     */
+    public boolean canReach(Point start, Point end) {
+        if (start.equals(end)) {
+            return true;
+        }
+        ensureBuilt();
+        int endLabel = labels[end.row * cols + end.col];
+        if (endLabel == OBSTACLE) {
+            return false;
+        }
+        int startLabel = labels[start.row * cols + start.col];
+        if (startLabel != OBSTACLE) {
+            return startLabel == endLabel;
+        }
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        for (int[] dir : directions) {
+            int row = start.row + dir[0];
+            int col = start.col + dir[1];
+            if (row >= 0 && row < rows && col >= 0 && col < cols && labels[row * cols + col] == endLabel) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna la componente de una celda (>= 1), o -1 si es obstáculo
+     * Complejidad: O(1)
+     */
+    public int componentOf(Point cell) {
+        ensureBuilt();
+        return labels[cell.row * cols + cell.col];
+    }
+
+    /**
+     * Retorna el número de componentes conexas de celdas libres
+     */
+    public int getComponentCount() {
+        ensureBuilt();
+        return componentCount;
+    }
+
+    /**
+     * Etiqueta todas las celdas si no hay etiquetas vigentes
+     */
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        if (labels == null) {
+            labels = new int[rows * cols];
+        } else {
+            Arrays.fill(labels, UNLABELED);
+        }
+        componentCount = 0;
+        build();
+        built = true;
+    }
+
+    /**
+     * Etiqueta todas las celdas: cada celda libre sin etiqueta inicia una nueva componente
+     */
+    private void build() {
+        IntStackManual stack = new IntStackManual(64);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int id = row * cols + col;
+                if (matrix[row][col] == '#') {
+                    labels[id] = OBSTACLE;
+                } else if (labels[id] == UNLABELED) {
+                    componentCount++;
+                    fillSpans(row, col, componentCount, stack);
+                }
+            }
+        }
+    }
+
+    /**
+     * Relleno por barrido de líneas: etiqueta tramos horizontales completos y apila
+     * solo el inicio de cada tramo libre en las filas vecinas
+     * La pila se comparte entre componentes para no reasignarla
+     */
+    private void fillSpans(int seedRow, int seedCol, int label, IntStackManual stack) {
+        stack.push(seedRow * cols + seedCol);
+
+        while (!stack.isEmpty()) {
+            int id = stack.pop();
+            if (labels[id] != UNLABELED) {
+                continue;
+            }
+            int row = id / cols;
+            int left = id % cols;
+            int right = left;
+            while (left > 0 && isOpen(row, left - 1)) {
+                left--;
+            }
+            while (right < cols - 1 && isOpen(row, right + 1)) {
+                right++;
+            }
+            for (int col = left; col <= right; col++) {
+                labels[row * cols + col] = label;
+            }
+
+            for (int neighborRow = row - 1; neighborRow <= row + 1; neighborRow += 2) {
+                if (neighborRow < 0 || neighborRow >= rows) {
+                    continue;
+                }
+                boolean inSpan = false;
+                for (int col = left; col <= right; col++) {
+                    if (isOpen(neighborRow, col)) {
+                        if (!inSpan) {
+                            stack.push(neighborRow * cols + col);
+                            inSpan = true;
+                        }
+                    } else {
+                        inSpan = false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Celda libre y todavía sin etiqueta
+     */
+    private boolean isOpen(int row, int col) {
+        return matrix[row][col] != '#' && labels[row * cols + col] == UNLABELED;
+    }
+}
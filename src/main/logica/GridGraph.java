@@ -0,0 +1,152 @@
+import java.util.*;
+
+/**
+ * Representación plana de una matriz char[][] como grafo de celdas con ids enteros
+ * - Id de celda: row * cols + col (la misma convención de SearchWorkspace y de los motores A* y JPS)
+ * - Transitabilidad en un único byte[] contiguo (1 = libre, 0 = '#'), un byte por celda
+ *   en lugar de un char por celda repartido en rows arreglos separados
+ * - Los vecinos se obtienen como ids, sin crear objetos Point; los Point solo se crean
+ *   en el borde de la API (toPoint / toPath)
+ * - Es una copia de la transitabilidad: tras editar la matriz hay que llamar a refresh()
+ *   (los buscadores que lo usan lo hacen desde su invalidate())
+ */
+public class GridGraph {
+    private final char[][] matrix;
+    private final int rows;
+    private final int cols;
+    private final byte[] passable;
+    private int freeCells;
+
+    /**
+     * Constructor: copia la transitabilidad de la matriz
+     * Complejidad: O(rows * cols)
+     */
+    public GridGraph(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.passable = new byte[rows * cols];
+        refresh();
+    }
+
+    /**
+     * Vuelve a copiar la transitabilidad de la matriz (tras editarla)
+     * Complejidad: O(rows * cols)
+     */
+    public void refresh() {
+        freeCells = 0;
+        for (int row = 0; row < rows; row++) {
+            char[] line = matrix[row];
+            int base = row * cols;
+            for (int col = 0; col < cols; col++) {
+                if (line[col] != '#') {
+                    passable[base + col] = 1;
+                    freeCells++;
+                } else {
+                    passable[base + col] = 0;
+                }
+            }
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getCellCount() {
+        return passable.length;
+    }
+
+    /**
+     * Retorna el número de celdas libres (distintas de '#')
+     */
+    public int getFreeCellCount() {
+        return freeCells;
+    }
+
+    /**
+     * Id de la celda (row, col)
+     */
+    public int id(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * Id de la celda de un Point
+     */
+    public int idOf(Point point) {
+        return point.row * cols + point.col;
+    }
+
+    public int rowOf(int id) {
+        return id / cols;
+    }
+
+    public int colOf(int id) {
+        return id % cols;
+    }
+
+    /**
+     * Convierte un id en Point (solo en el borde de la API)
+     */
+    public Point toPoint(int id) {
+        return new Point(id / cols, id % cols);
+    }
+
+    /**
+     * Verifica si la celda con el id dado es libre
+     * Precondición: 0 <= id < getCellCount()
+     */
+    public boolean isPassable(int id) {
+        return passable[id] != 0;
+    }
+
+    /**
+     * Verifica si (row, col) está dentro de la matriz y es libre
+     */
+    public boolean isPassable(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && passable[row * cols + col] != 0;
+    }
+
+    /**
+     * Escribe en out los vecinos libres de la celda, en el orden arriba, abajo, izquierda, derecha
+     * (el mismo orden que DIRECTIONS en los buscadores, para que las rutas coincidan)
+     * Precondición: out.length >= 4
+     * @return número de vecinos escritos
+     * Complejidad: O(1), sin asignaciones
+     */
+    public int neighbors(int id, int[] out) {
+        int row = id / cols;
+        int col = id - row * cols;
+        int count = 0;
+
+        if (row > 0 && passable[id - cols] != 0) {
+            out[count++] = id - cols;
+        }
+        if (row < rows - 1 && passable[id + cols] != 0) {
+            out[count++] = id + cols;
+        }
+        if (col > 0 && passable[id - 1] != 0) {
+            out[count++] = id - 1;
+        }
+        if (col < cols - 1 && passable[id + 1] != 0) {
+            out[count++] = id + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Convierte una secuencia de ids (de inicio a fin) en la List<Point> de la API
+     */
+    public List<Point> toPath(int[] cells, int length) {
+        List<Point> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            path.add(toPoint(cells[i]));
+        }
+        return path;
+    }
+}
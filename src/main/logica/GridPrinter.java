@@ -0,0 +1,41 @@
+import java.util.*;
+
+/**
+ * Impresión de una matriz char[][] con una ruta marcada, común a los buscadores
+ * - Las celdas de la ruta se muestran con '*', salvo 'S' y 'E', que se conservan
+ * - No modifica la matriz: marca una copia
+ */
+public final class GridPrinter {
+    private GridPrinter() {
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     * Complejidad: O(rows * cols + longitud de la ruta)
+     */
+    public static void printMatrixWithPath(char[][] matrix, List<Point> path) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        char[][] displayMatrix = new char[rows][cols];
+
+        // Copiar matriz original
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(matrix[i], 0, displayMatrix[i], 0, cols);
+        }
+
+        // Marcar ruta
+        for (Point p : path) {
+            if (displayMatrix[p.row][p.col] != 'S' && displayMatrix[p.row][p.col] != 'E') {
+                displayMatrix[p.row][p.col] = '*';
+            }
+        }
+
+        // Imprimir matriz
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                System.out.print(displayMatrix[i][j] + " ");
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+import java.util.*;
+
+/**
+ * Planificador incremental de rutas (D* Lite, Koenig y Likhachev) para matrices que cambian
+ * - Busca desde el objetivo hacia el inicio y conserva g/rhs de cada celda entre llamadas
+ * - setCell(row, col, value) cambia la matriz y solo marca como inconsistentes los vecinos
+ *   de la celda cambiada; el siguiente findPath() repara únicamente la zona afectada
+ * - moveStart() desplaza el inicio (el agente avanza) sin perder el estado: el término km
+ *   compensa el cambio de heurística, como en el algoritmo original
+ * Costo de un paso: 1 al entrar a una celda libre, infinito al entrar a '#'
+ * (misma semántica que findPathBFS: un inicio sobre '#' puede salir, un objetivo sobre '#' no es alcanzable)
+ * Las rutas son de longitud mínima; ante empates pueden diferir de la de findPathBFS
+ */
+public class IncrementalPathPlanner implements PathFinderEngine {
+    private static final int INFINITY = Integer.MAX_VALUE / 4;
+
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Estado de D* Lite por id de celda (row * cols + col)
+    private final int[] g;
+    private final int[] rhs;
+    private final IndexedMinHeap open;
+    private final int[] neighbors = new int[4];
+    private int start;
+    private int goal;
+    private int lastStart; // Inicio al último ajuste de km
+    private int km;
+    private boolean initialized;
+
+    // Celdas expandidas en el último findPath
+    private int expandedNodes;
+
+    /**
+     * Constructor: planificador sobre la matriz (que modificará a través de setCell)
+     */
+    public IncrementalPathPlanner(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.g = new int[rows * cols];
+        this.rhs = new int[rows * cols];
+        this.open = new IndexedMinHeap(rows * cols);
+        this.initialized = false;
+    }
+
+    /**
+     * Constructor: planificador con inicio y objetivo fijados
+     */
+    public IncrementalPathPlanner(char[][] matrix, Point start, Point goal) {
+        this(matrix);
+        reset(start, goal);
+    }
+
+    /**
+     * Busca la ruta de start a end reutilizando el estado si el objetivo no cambió
+     * Si cambió el objetivo se reinicia la búsqueda; si solo cambió el inicio se usa moveStart
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        if (!initialized || id(end) != goal) {
+            reset(start, end);
+        } else if (id(start) != this.start) {
+            moveStart(start);
+        }
+        return findPath();
+    }
+
+    /**
+     * Repara el estado (solo lo necesario) y retorna la ruta actual del inicio al objetivo
+     * @return la ruta, o lista vacía si no existe
+     * @throws IllegalStateException si todavía no se fijaron inicio y objetivo
+     */
+    public List<Point> findPath() {
+        if (!initialized) {
+            throw new IllegalStateException("Primero se debe fijar el inicio y el objetivo");
+        }
+        expandedNodes = 0;
+        computeShortestPath();
+        // Al terminar, rhs(inicio) es la distancia al objetivo (g del inicio puede seguir sin fijar)
+        int length = rhs[start];
+        if (length >= INFINITY) {
+            return new ArrayList<>();
+        }
+
+        // Seguir el vecino libre de menor g (orden arriba, abajo, izquierda, derecha)
+        List<Point> path = new ArrayList<>(length + 1);
+        int current = start;
+        path.add(toPoint(current));
+        while (current != goal) {
+            int count = neighborIds(current);
+            int best = -1;
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (isPassable(neighbor) && (best == -1 || g[neighbor] < g[best])) {
+                    best = neighbor;
+                }
+            }
+            if (best == -1 || g[best] >= INFINITY || path.size() > length) {
+                return new ArrayList<>(); // Estado inconsistente: no debería ocurrir
+            }
+            current = best;
+            path.add(toPoint(current));
+        }
+        return path;
+    }
+
+    /**
+     * Cambia una celda de la matriz ('#' = obstáculo) y marca lo afectado para reparar
+     * Complejidad: O(log n) (solo los 4 vecinos de la celda cambian de costo)
+     */
+    public void setCell(int row, int col, char value) {
+        boolean wasPassable = matrix[row][col] != '#';
+        matrix[row][col] = value;
+        if (!initialized || wasPassable == (value != '#')) {
+            return; // La transitabilidad no cambió: no hay aristas afectadas
+        }
+
+        // Cambió el costo de entrar a la celda: solo los vecinos (predecesores) recalculan rhs
+        syncStart();
+        int cell = id(row, col);
+        int count = neighborIds(cell);
+        int[] predecessors = Arrays.copyOf(neighbors, count);
+        for (int predecessor : predecessors) {
+            if (predecessor != goal) {
+                rhs[predecessor] = bestSuccessorCost(predecessor);
+            }
+            updateVertex(predecessor);
+        }
+    }
+
+    /**
+     * Mueve el inicio (el agente avanzó) conservando el estado de la búsqueda
+     */
+    public void moveStart(Point newStart) {
+        start = id(newStart);
+    }
+
+    /**
+     * Retorna el número de celdas expandidas en el último findPath
+     */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Reinicia la búsqueda para un nuevo par inicio/objetivo
+     */
+    private void reset(Point newStart, Point newGoal) {
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open.clear();
+        start = id(newStart);
+        goal = id(newGoal);
+        lastStart = start;
+        km = 0;
+        rhs[goal] = 0;
+        open.insert(goal, key(goal));
+        initialized = true;
+    }
+
+    /**
+     * Bucle principal de D* Lite: procesa celdas inconsistentes hasta que el inicio es consistente
+     * y ninguna clave pendiente es menor que la suya
+     */
+    private void computeShortestPath() {
+        syncStart();
+        while (!open.isEmpty() && (open.peekKey() < key(start) || rhs[start] > g[start])) {
+            int u = open.peek();
+            long oldKey = open.peekKey();
+            long newKey = key(u);
+            expandedNodes++;
+
+            if (oldKey < newKey) {
+                open.update(u, newKey); // Clave desactualizada por km: reinsertar
+            } else if (g[u] > rhs[u]) {
+                // Sobreconsistente: fijar g y propagar a los predecesores
+                g[u] = rhs[u];
+                open.remove(u);
+                if (isPassable(u)) {
+                    int count = neighborIds(u);
+                    int[] predecessors = Arrays.copyOf(neighbors, count);
+                    for (int s : predecessors) {
+                        if (s != goal) {
+                            rhs[s] = Math.min(rhs[s], g[u] + 1);
+                        }
+                        updateVertex(s);
+                    }
+                }
+            } else {
+                // Subconsistente: g pasa a infinito y se recalcula u y sus predecesores
+                int oldG = g[u];
+                g[u] = INFINITY;
+                int count = neighborIds(u);
+                int[] affected = Arrays.copyOf(neighbors, count + 1);
+                affected[count] = u;
+                for (int s : affected) {
+                    boolean dependedOnU = s != u && isPassable(u) && rhs[s] == oldG + 1;
+                    if ((dependedOnU || s == u) && s != goal) {
+                        rhs[s] = bestSuccessorCost(s);
+                    }
+                    updateVertex(s);
+                }
+            }
+        }
+    }
+
+    /**
+     * Si el inicio se movió, acumula en km la heurística recorrida: las claves ya encoladas
+     * quedan como cotas inferiores válidas y se corrigen al salir del montículo
+     */
+    private void syncStart() {
+        if (lastStart != start) {
+            km += heuristic(lastStart, start);
+            lastStart = start;
+        }
+    }
+
+    /**
+     * Reinserta, actualiza o quita la celda del conjunto abierto según sea inconsistente
+     */
+    private void updateVertex(int u) {
+        boolean inconsistent = g[u] != rhs[u];
+        if (inconsistent && open.contains(u)) {
+            open.update(u, key(u));
+        } else if (inconsistent) {
+            open.insert(u, key(u));
+        } else if (open.contains(u)) {
+            open.remove(u);
+        }
+    }
+
+    /**
+     * min sobre los sucesores s' de (costo de entrar a s' + g(s'))
+     */
+    private int bestSuccessorCost(int u) {
+        int best = INFINITY;
+        int count = neighborIds(u);
+        for (int i = 0; i < count; i++) {
+            int successor = neighbors[i];
+            if (isPassable(successor) && g[successor] < INFINITY) {
+                best = Math.min(best, g[successor] + 1);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Clave de D* Lite [min(g, rhs) + h(start, u) + km ; min(g, rhs)] empaquetada en un long
+     */
+    private long key(int u) {
+        int minimum = Math.min(g[u], rhs[u]);
+        long primary = (long) minimum + heuristic(start, u) + km;
+        return primary << 32 | minimum;
+    }
+
+    /**
+     * Distancia Manhattan entre dos celdas (consistente para costo uniforme en 4 direcciones)
+     */
+    private int heuristic(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    /**
+     * Escribe en neighbors los ids vecinos dentro de la matriz (libres o no)
+     * @return cantidad de vecinos
+     */
+    private int neighborIds(int cell) {
+        int row = cell / cols;
+        int col = cell % cols;
+        int count = 0;
+        if (row > 0) {
+            neighbors[count++] = cell - cols;
+        }
+        if (row < rows - 1) {
+            neighbors[count++] = cell + cols;
+        }
+        if (col > 0) {
+            neighbors[count++] = cell - 1;
+        }
+        if (col < cols - 1) {
+            neighbors[count++] = cell + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+
+    private boolean isPassable(int cell) {
+        return matrix[cell / cols][cell % cols] != '#';
+    }
+
+    private int id(Point point) {
+        return point.row * cols + point.col;
+    }
+
+    private int id(int row, int col) {
+        return row * cols + col;
+    }
+
+    private Point toPoint(int cell) {
+        return new Point(cell / cols, cell % cols);
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.*;
+
+/**
+ * Heurística ALT (A*, Landmarks, desigualdad Triangular) precalculada sobre una matriz
+ * - Elige k celdas de referencia (landmarks) por el punto más lejano: la primera es la celda
+ *   más alejada de la región más grande y cada siguiente maximiza su distancia a las ya elegidas
+ * - Guarda la distancia BFS de cada landmark a cada celda en un solo char[] (16 bits por valor)
+ *   intercalado por celda: las k distancias de una celda quedan contiguas en memoria
+ * - Cota inferior: d(v, t) >= |d(L, t) - d(L, v)| para todo landmark L; se combina con
+ *   Manhattan tomando el máximo, que sigue siendo admisible y consistente
+ * En mapas tipo laberinto Manhattan subestima mucho (los pasillos obligan a rodeos) y la cota
+ * de landmarks reduce las celdas que expande A*
+ * Se calcula sobre una instantánea de la matriz: si la matriz cambia, hay que construir otra
+ * Complejidad: O(k * rows * cols) de preproceso, O(k) por estimación
+ */
+public class LandmarkHeuristic {
+    // Valor para celdas que el landmark no alcanza (o '#'); también marca distancias que no caben
+    private static final char UNKNOWN = Character.MAX_VALUE;
+
+    private final int rows;
+    private final int cols;
+    private final int landmarkCount;
+    private final int[] landmarks;
+    private final char[] distances; // distances[cell * landmarkCount + i] = d(landmark i, cell)
+    private final long preprocessingNanos;
+
+    /**
+     * Constructor: selecciona los landmarks y calcula sus distancias
+     * Precondición: k >= 1
+     * Postcondición: si la matriz tiene menos celdas libres que k, se eligen tantas como haya
+     * Complejidad: O(k * rows * cols)
+     */
+    public LandmarkHeuristic(char[][] matrix, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un landmark: " + k);
+        }
+        long startTime = System.nanoTime();
+        GridGraph graph = new GridGraph(matrix);
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+
+        int[] queue = new int[rows * cols];
+        int[] distance = new int[rows * cols];
+        List<int[]> fields = new ArrayList<>();
+        List<Integer> chosen = new ArrayList<>();
+
+        int seed = largestRegionSeed(graph, queue, distance);
+        if (seed >= 0) {
+            // La primera referencia es la celda más lejana de la semilla (un extremo de la región)
+            int[] minDistance = new int[rows * cols];
+            int candidate = bfs(graph, seed, queue, distance);
+            while (chosen.size() < k) {
+                int[] field = new int[rows * cols];
+                bfs(graph, candidate, queue, field);
+                fields.add(field);
+                chosen.add(candidate);
+
+                // Siguiente: la celda de la región con mayor distancia al landmark más cercano
+                int next = -1;
+                for (int cell = 0; cell < field.length; cell++) {
+                    if (field[cell] < 0) {
+                        continue;
+                    }
+                    minDistance[cell] = chosen.size() == 1 ? field[cell] : Math.min(minDistance[cell], field[cell]);
+                    if (minDistance[cell] > 0 && (next == -1 || minDistance[cell] > minDistance[next])) {
+                        next = cell;
+                    }
+                }
+                if (next == -1) {
+                    break; // Todas las celdas de la región ya son landmarks
+                }
+                candidate = next;
+            }
+        }
+
+        this.landmarkCount = chosen.size();
+        this.landmarks = new int[landmarkCount];
+        this.distances = new char[rows * cols * landmarkCount];
+        for (int i = 0; i < landmarkCount; i++) {
+            landmarks[i] = chosen.get(i);
+            int[] field = fields.get(i);
+            for (int cell = 0; cell < field.length; cell++) {
+                // Las distancias que no caben en 16 bits se tratan como desconocidas (cota 0)
+                int value = field[cell];
+                distances[cell * landmarkCount + i] = value < 0 || value >= UNKNOWN ? UNKNOWN : (char) value;
+            }
+        }
+        this.preprocessingNanos = System.nanoTime() - startTime;
+    }
+
+    /**
+     * Cota inferior de la distancia de cell a goal (ids row * cols + col)
+     * Máximo entre Manhattan y |d(L, goal) - d(L, cell)| sobre los landmarks que alcanzan ambas
+     * Complejidad: O(k)
+     */
+    public int lowerBound(int cell, int goal) {
+        int bound = Math.abs(cell / cols - goal / cols) + Math.abs(cell % cols - goal % cols);
+        int cellBase = cell * landmarkCount;
+        int goalBase = goal * landmarkCount;
+        for (int i = 0; i < landmarkCount; i++) {
+            char fromLandmark = distances[cellBase + i];
+            char toGoal = distances[goalBase + i];
+            if (fromLandmark != UNKNOWN && toGoal != UNKNOWN) {
+                bound = Math.max(bound, Math.abs(toGoal - fromLandmark));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * BFS desde source; deja en distance la distancia de cada celda (-1 si no se alcanza)
+     * @return la última celda alcanzada (una de las más lejanas)
+     */
+    private int bfs(GridGraph graph, int source, int[] queue, int[] distance) {
+        Arrays.fill(distance, -1);
+        int[] neighbors = new int[4];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distance[source] = 0;
+        while (head < tail) {
+            int current = queue[head++];
+            int count = graph.neighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (distance[neighbor] < 0) {
+                    distance[neighbor] = distance[current] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return queue[tail - 1];
+    }
+
+    /**
+     * Retorna una celda de la región libre más grande (los landmarks se ubican en ella),
+     * o -1 si la matriz no tiene celdas libres
+     * Complejidad: O(rows * cols) (cada región se recorre una sola vez)
+     */
+    private int largestRegionSeed(GridGraph graph, int[] queue, int[] region) {
+        Arrays.fill(region, -1);
+        int[] neighbors = new int[4];
+        int bestSeed = -1;
+        int bestSize = 0;
+        int remaining = graph.getFreeCellCount();
+        for (int seed = 0; seed < region.length && bestSize < remaining; seed++) {
+            if (region[seed] >= 0 || !graph.isPassable(seed)) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = seed;
+            region[seed] = seed;
+            while (head < tail) {
+                int count = graph.neighbors(queue[head++], neighbors);
+                for (int i = 0; i < count; i++) {
+                    if (region[neighbors[i]] < 0) {
+                        region[neighbors[i]] = seed;
+                        queue[tail++] = neighbors[i];
+                    }
+                }
+            }
+            if (tail > bestSize) {
+                bestSize = tail;
+                bestSeed = seed;
+            }
+            remaining -= tail;
+        }
+        return bestSeed;
+    }
+
+    /**
+     * Retorna los landmarks elegidos, en orden de selección
+     */
+    public List<Point> getLandmarks() {
+        List<Point> points = new ArrayList<>(landmarkCount);
+        for (int landmark : landmarks) {
+            points.add(new Point(landmark / cols, landmark % cols));
+        }
+        return points;
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    public long getPreprocessingNanos() {
+        return preprocessingNanos;
+    }
+
+    /**
+     * Retorna los bytes de la tabla de distancias (2 por celda y landmark)
+     */
+    public long getMemoryBytes() {
+        return 2L * distances.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Landmarks: %d, preproceso: %.2f ms, tabla: %.1f KB",
+            landmarkCount, preprocessingNanos / 1_000_000.0, getMemoryBytes() / 1024.0);
+    }
+}
@@ -6,6 +6,8 @@ import java.util.*;
  * Mide: inserciones/eliminaciones en cabeza y cola para n=1000, n=10000
  */
 public class ListPerformanceComparator {
+    // Tamaño máximo con el que se ejecutan de verdad las variantes O(n²)
+    private static final int QUADRATIC_LIMIT = 20_000;
     
     /**
      * Compara el rendimiento de SinglyLinkedList vs LinkedList nativa
@@ -48,6 +50,75 @@ public class ListPerformanceComparator {
         }
     }
     
+    /**
+     * Mide addLast y el recorrido completo de SinglyLinkedList en listas grandes (10^5 y 10^6),
+     * el patrón de visitHistory en MatrixPathFinderWithLists
+     * - addLast: O(1) con tail; antes recorría la lista completa (O(n) por inserción)
+     * - Recorrido: iterador en O(n) frente a get(i) en un ciclo, O(n²)
+     * Las variantes cuadráticas solo se ejecutan hasta QUADRATIC_LIMIT elementos;
+     * por encima se estiman escalando el tiempo medido por (n / QUADRATIC_LIMIT)²
+     */
+    public void compareTailAppendAndTraversal() {
+        System.out.println("=== COMPARACIÓN: addLast Y RECORRIDO EN LISTA SIMPLE ===");
+        System.out.println("addLast con tail + iterador vs recorrido hasta el final + get(i)");
+        System.out.println();
+        
+        int[] testSizes = {100_000, 1_000_000};
+        
+        for (int size : testSizes) {
+            System.out.println("Probando con " + size + " elementos:");
+            
+            // addLast actual (O(1) con tail)
+            long startTime = System.nanoTime();
+            SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.addLast(i);
+            }
+            long appendTime = System.nanoTime() - startTime;
+            
+            // Recorrido con el iterador
+            startTime = System.nanoTime();
+            long checksum = 0;
+            for (int value : list) {
+                checksum += value;
+            }
+            long iteratorTime = System.nanoTime() - startTime;
+            
+            // Variantes cuadráticas: medidas con QUADRATIC_LIMIT elementos y escaladas
+            int measured = Math.min(size, QUADRATIC_LIMIT);
+            double scale = Math.pow((double) size / measured, 2);
+            
+            // addLast anterior: recorrer hasta el último nodo antes de cada inserción
+            startTime = System.nanoTime();
+            SinglyLinkedList<Integer> walkedList = new SinglyLinkedList<>();
+            for (int i = 0; i < measured; i++) {
+                if (!walkedList.isEmpty()) {
+                    walkedList.get(walkedList.size() - 1);
+                }
+                walkedList.addLast(i);
+            }
+            long walkAppendTime = (long) ((System.nanoTime() - startTime) * scale);
+            
+            // Recorrido anterior con get(i)
+            startTime = System.nanoTime();
+            long indexedChecksum = 0;
+            for (int i = 0; i < measured; i++) {
+                indexedChecksum += walkedList.get(i);
+            }
+            long indexedTime = (long) ((System.nanoTime() - startTime) * scale);
+            
+            String note = measured < size ? " (estimado desde " + measured + ")" : "";
+            System.out.println("  Operación: addLast de todos los elementos");
+            System.out.printf("    %-22s %12.2f ms%n", "Con tail:", appendTime / 1_000_000.0);
+            System.out.printf("    %-22s %12.2f ms%s%n", "Recorriendo la lista:", walkAppendTime / 1_000_000.0, note);
+            System.out.println("  Operación: recorrido completo");
+            System.out.printf("    %-22s %12.2f ms%n", "Iterador:", iteratorTime / 1_000_000.0);
+            System.out.printf("    %-22s %12.2f ms%s%n", "get(i):", indexedTime / 1_000_000.0, note);
+            System.out.println("    (sumas de control: " + checksum + ", " + indexedChecksum + ")");
+            System.out.println();
+        }
+    }
+    
     /**
      * Compara el rendimiento de DoublyLinkedList vs LinkedList nativa
      */
@@ -241,6 +312,7 @@ public class ListPerformanceComparator {
         System.out.println();
         
         compareSinglyLinkedListPerformance();
+        compareTailAppendAndTraversal();
         compareDoublyLinkedListPerformance();
         
         System.out.println("=".repeat(70));
@@ -249,9 +321,10 @@ public class ListPerformanceComparator {
         System.out.println();
         System.out.println("LISTA SIMPLE (SinglyLinkedList):");
         System.out.println("  - addFirst:     O(1) - inserción en cabeza");
-        System.out.println("  - addLast:      O(n) - requiere recorrer toda la lista");
+        System.out.println("  - addLast:      O(1) - inserción en cola (tiene tail)");
         System.out.println("  - removeFirst:  O(1) - remoción de cabeza");
-        System.out.println("  - removeLast:   O(n) - requiere recorrer hasta el final");
+        System.out.println("  - removeLast:   O(n) - requiere recorrer hasta el penúltimo");
+        System.out.println("  - recorrido:    O(n) con el iterador (for-each), O(n²) con get(i)");
         System.out.println();
         System.out.println("LISTA DOBLE (DoublyLinkedList):");
         System.out.println("  - addFirst:     O(1) - inserción en cabeza");
@@ -270,7 +343,7 @@ public class ListPerformanceComparator {
         System.out.println("=".repeat(70));
         System.out.println();
         System.out.println("1. COMPLEJIDAD TEÓRICA:");
-        System.out.println("   - Lista simple: O(1) para cabeza, O(n) para cola");
+        System.out.println("   - Lista simple: O(1) para cabeza y addLast, O(n) para removeLast");
         System.out.println("   - Lista doble: O(1) para ambas operaciones");
         System.out.println("   - LinkedList nativa: O(1) para todas (doblemente enlazada)");
         System.out.println();
@@ -0,0 +1,143 @@
+import java.util.*;
+
+/**
+ * Búsqueda de rutas en matriz usando A* con heurística Manhattan
+ * (o con cotas de landmarks, ver LandmarkHeuristic, si se pasa una al constructor)
+ * - Conjunto abierto: IndexedMinHeap (montículo binario indexado por id de celda)
+ * - Misma convención que MatrixPathFinder: char[][], Point de inicio/fin y '#' como obstáculo
+ * - Recorre la matriz a través de GridGraph (ids enteros, transitabilidad en byte[])
+ * - Retorna una ruta de longitud óptima (igual que findPathBFS) expandiendo muchas menos celdas
+ * Si la matriz se edita después de construirlo, hay que llamar a invalidate() antes de la siguiente consulta
+ */
+public class MatrixPathFinderAStar implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Celdas extraídas del conjunto abierto en la última búsqueda
+    private int expandedNodes;
+
+    // Estado reutilizado entre consultas: g/padres/cerrados con sello de generación y conjunto abierto
+    private final SearchWorkspace workspace;
+    private final IndexedMinHeap open;
+    private final int[] neighbors = new int[4];
+
+    // Heurística ALT opcional (null = solo Manhattan)
+    private final LandmarkHeuristic landmarks;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    private final GridGraph graph; // Transitabilidad copiada de la matriz (ver invalidate())
+
+    public MatrixPathFinderAStar(char[][] matrix) {
+        this(matrix, null);
+    }
+
+    /**
+     * Constructor: A* guiado por las cotas de landmarks (precalculadas sobre la misma matriz)
+     */
+    public MatrixPathFinderAStar(char[][] matrix, LandmarkHeuristic landmarks) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.graph = new GridGraph(matrix);
+        this.workspace = new SearchWorkspace(rows * cols);
+        this.open = new IndexedMinHeap(rows * cols);
+        this.landmarks = landmarks;
+    }
+
+    /**
+     * Busca la ruta más corta usando A* con heurística Manhattan (o la de landmarks)
+     * Ambas heurísticas son admisibles y consistentes en una grilla 4-conectada de costo uniforme,
+     * por lo que ninguna celda cerrada necesita reabrirse
+     * @return la ruta desde start hasta end, o lista vacía si no existe
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        expandedNodes = 0;
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        workspace.beginQuery();
+        open.clear();
+
+        int startId = start.row * cols + start.col;
+        int endId = end.row * cols + end.col;
+        workspace.visit(startId, -1, 0);
+        open.insert(startId, priority(0, heuristic(startId, endId)));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            expandedNodes++;
+
+            if (current == endId) {
+                return workspace.pathTo(endId, cols);
+            }
+            workspace.close(current);
+
+            int nextG = workspace.distanceOf(current) + 1;
+
+            // Explorar vecinos libres (ids leídos del GridGraph, sin crear Point)
+            int count = graph.neighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (workspace.isClosed(neighbor) || nextG >= workspace.distanceOf(neighbor)) {
+                    continue;
+                }
+                workspace.visit(neighbor, current, nextG);
+                long key = priority(nextG, heuristic(neighbor, endId));
+                if (open.contains(neighbor)) {
+                    open.decreaseKey(neighbor, key);
+                } else {
+                    open.insert(neighbor, key);
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Retorna el número de celdas expandidas en la última llamada a findPath
+     */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Distancia Manhattan desde la celda hasta el destino, o la cota de landmarks si hay
+     */
+    private int heuristic(int cell, int endId) {
+        if (landmarks != null) {
+            return landmarks.lowerBound(cell, endId);
+        }
+        return Math.abs(cell / cols - endId / cols) + Math.abs(cell % cols - endId % cols);
+    }
+
+    /**
+     * Prioridad compuesta: f = g + h en los 32 bits altos; a igual f se prefiere mayor g
+     * (celdas más cercanas al destino), lo que evita expandir toda la meseta de empates
+     */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) - g;
+    }
+
+    /**
+     * Avisa que la matriz se editó: vuelve a copiar la transitabilidad al grafo
+     * y la próxima consulta recalcula el índice de componentes
+     * Las cotas de landmarks no se recalculan: si se usan, hay que crear otro buscador con una nueva LandmarkHeuristic
+     * Complejidad: O(rows * cols)
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        graph.refresh();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
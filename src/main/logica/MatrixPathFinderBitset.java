@@ -0,0 +1,376 @@
+import java.util.*;
+
+/**
+ * BFS con paralelismo de palabra: la matriz y la frontera se guardan como bitsets long[] por fila
+ * - Bit (row, col) en la palabra row * words + col / 64, posición col % 64
+ * - Un nivel se expande con desplazamientos y AND sobre palabras completas:
+ *   siguiente = (frontera arriba | abajo | << 1 | >>> 1) & libres & ~visitados
+ *   así avanzan 64 celdas por operación en lugar de una celda (Point) por iteración
+ * - Solo se recorren las palabras activas: cada fila lleva una máscara con un bit por palabra
+ *   no vacía de la frontera, y se visitan las palabras de esa máscara (filas vecinas, ± 1 palabra)
+ * - Los tramos contiguos de palabras los expande un FrontierKernel: escalar, o vectorial
+ *   (jdk.incubator.vector) cuando está disponible
+ * - Para reconstruir la ruta se guarda la distancia módulo 3 de cada celda en dos planos de bits:
+ *   en BFS dos vecinos difieren a lo sumo en 1, así que desde end basta con moverse al vecino
+ *   visitado con distancia (d - 1) mod 3 (barrido hacia atrás en orden arriba, abajo, izquierda, derecha)
+ * Las rutas son de longitud mínima, igual que findPathBFS, aunque ante empates pueden elegir
+ * otra de las rutas más cortas
+ * Si la matriz se edita después de la primera consulta, hay que llamar a invalidate()
+ */
+public class MatrixPathFinderBitset implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+    private final int words; // Palabras long por fila
+
+    // Bitsets rows * words; passable se llena en la primera consulta y de nuevo tras invalidate()
+    private boolean prepared;
+    private final long[] passable;
+    private final long[] visited;
+    private long[] frontier;
+    private long[] next;
+    private final long[] modLow;  // Bit 0 de distancia mod 3
+    private final long[] modHigh; // Bit 1 de distancia mod 3
+
+    // Máscara de palabras no vacías por fila en frontier / next (maskWords longs por fila)
+    private final int maskWords;
+    private long[] frontierMask;
+    private long[] nextMask;
+    private final long[] candidateMask; // Palabras a revisar en la fila actual
+
+    private final FrontierKernel kernel;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+
+    // Estadísticas de la última consulta
+    private int levels;
+    private long reachedCells;
+
+    /**
+     * Constructor: usa el mejor núcleo disponible (vectorial si hay Vector API, si no escalar)
+     */
+    public MatrixPathFinderBitset(char[][] matrix) {
+        this(matrix, FrontierKernel.best());
+    }
+
+    /**
+     * Constructor con núcleo explícito (p. ej. new ScalarFrontierKernel() para comparar)
+     */
+    public MatrixPathFinderBitset(char[][] matrix, FrontierKernel kernel) {
+        this.kernel = kernel;
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.words = (cols + 63) >>> 6;
+        int size = rows * words;
+        this.passable = new long[size];
+        this.visited = new long[size];
+        this.frontier = new long[size];
+        this.next = new long[size];
+        this.modLow = new long[size];
+        this.modHigh = new long[size];
+        this.maskWords = (words + 63) >>> 6;
+        this.frontierMask = new long[rows * maskWords];
+        this.nextMask = new long[rows * maskWords];
+        this.candidateMask = new long[maskWords];
+    }
+
+    /**
+     * Motor por defecto: BFS por bitsets
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        return findPathBFS(start, end);
+    }
+
+    /**
+     * Busca una ruta más corta expandiendo la frontera por palabras hasta alcanzar end
+     */
+    public List<Point> findPathBFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        if (!search(start, end, null)) {
+            return new ArrayList<>();
+        }
+
+        // Barrido hacia atrás: de end a start siguiendo distancia mod 3 decreciente
+        int length = levels + 1;
+        Point[] path = new Point[length];
+        int row = end.row;
+        int col = end.col;
+        for (int distance = levels; distance > 0; distance--) {
+            path[distance] = new Point(row, col);
+            int previous = (distance - 1) % 3;
+            if (row > 0 && isVisitedWithMod(row - 1, col, previous)) {
+                row--;
+            } else if (row < rows - 1 && isVisitedWithMod(row + 1, col, previous)) {
+                row++;
+            } else if (col > 0 && isVisitedWithMod(row, col - 1, previous)) {
+                col--;
+            } else {
+                col++;
+            }
+        }
+        path[0] = new Point(row, col);
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Calcula la distancia BFS desde start a todas las celdas (campo de distancias)
+     * @return arreglo indexado por id (row * cols + col); -1 si la celda no es alcanzable
+     */
+    public int[] distancesFrom(Point start) {
+        int[] distances = new int[rows * cols];
+        Arrays.fill(distances, -1);
+        search(start, null, distances);
+        return distances;
+    }
+
+    /**
+     * Cuenta las celdas alcanzables desde start (incluido start); no reconstruye nada por celda
+     */
+    public long countReachable(Point start) {
+        search(start, null, null);
+        return reachedCells;
+    }
+
+    /**
+     * Retorna el nombre del núcleo de expansión en uso
+     */
+    public String getKernelName() {
+        return kernel.getName();
+    }
+
+    /**
+     * Retorna el número de niveles expandidos en la última consulta
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * BFS por niveles sobre los bitsets
+     * @param end celda buscada, o null para recorrer toda la región
+     * @param distances si no es null, recibe la distancia de cada celda alcanzada
+     * @return true si se alcanzó end
+     */
+    private boolean search(Point start, Point end, int[] distances) {
+        prepare();
+        Arrays.fill(visited, 0L);
+        Arrays.fill(modLow, 0L);
+        Arrays.fill(modHigh, 0L);
+
+        // El inicio entra a la frontera aunque sea '#', igual que en findPathBFS
+        int startWord = start.row * words + (start.col >>> 6);
+        long startBit = 1L << start.col;
+        frontier[startWord] = startBit;
+        visited[startWord] = startBit;
+        frontierMask[start.row * maskWords + (start.col >>> 12)] = 1L << (start.col >>> 6);
+        if (distances != null) {
+            distances[start.row * cols + start.col] = 0;
+        }
+        levels = 0;
+        reachedCells = 1;
+        int minRow = start.row;
+        int maxRow = start.row;
+        int endWord = end == null ? -1 : end.row * words + (end.col >>> 6);
+        long endBit = end == null ? 0 : 1L << end.col;
+        boolean found = end != null && start.equals(end);
+
+        while (!found && minRow <= maxRow) {
+            int distance = levels + 1;
+            int nextMinRow = Integer.MAX_VALUE;
+            int nextMaxRow = -1;
+
+            for (int row = Math.max(0, minRow - 1); row <= Math.min(rows - 1, maxRow + 1); row++) {
+                if (!collectCandidates(row)) {
+                    continue;
+                }
+                // Agrupar las palabras candidatas en tramos contiguos [runStart, runEnd) para el núcleo
+                boolean reachedRow = false;
+                int runStart = -1;
+                int runEnd = -1;
+                for (int m = 0; m < maskWords; m++) {
+                    long candidates = candidateMask[m];
+                    while (candidates != 0) {
+                        int w = (m << 6) + Long.numberOfTrailingZeros(candidates);
+                        candidates &= candidates - 1;
+                        if (w >= words) {
+                            break; // La dilatación puede marcar una palabra más allá de la fila
+                        }
+                        if (w == runEnd) {
+                            runEnd++;
+                            continue;
+                        }
+                        if (runStart >= 0) {
+                            reachedRow |= expandRun(row, runStart, runEnd, distance, distances);
+                        }
+                        runStart = w;
+                        runEnd = w + 1;
+                    }
+                }
+                if (runStart >= 0) {
+                    reachedRow |= expandRun(row, runStart, runEnd, distance, distances);
+                }
+                if (reachedRow) {
+                    nextMinRow = Math.min(nextMinRow, row);
+                    nextMaxRow = row;
+                }
+            }
+
+            // Limpiar la frontera usada (solo sus palabras activas) e intercambiar
+            clearFrontier(minRow, maxRow);
+            long[] swapWords = frontier;
+            frontier = next;
+            next = swapWords;
+            long[] swapMask = frontierMask;
+            frontierMask = nextMask;
+            nextMask = swapMask;
+
+            minRow = nextMinRow;
+            maxRow = nextMaxRow;
+            if (maxRow >= 0) {
+                levels = distance;
+            }
+            found = endWord >= 0 && (visited[endWord] & endBit) != 0;
+        }
+
+        // Dejar la frontera en cero para la siguiente consulta
+        clearFrontier(minRow, maxRow);
+        return found;
+    }
+
+    /**
+     * Expande con el núcleo las palabras [from, to) de la fila y registra las celdas alcanzadas
+     * (máscara de la siguiente frontera, contador y distancias)
+     * @return true si alguna celda quedó alcanzada
+     */
+    private boolean expandRun(int row, int from, int to, int distance, int[] distances) {
+        int base = row * words;
+        if (!kernel.expand(frontier, passable, visited, next, modLow, modHigh, base, words,
+                from, to, row > 0, row < rows - 1, distance % 3)) {
+            return false;
+        }
+        for (int w = from; w < to; w++) {
+            long reached = next[base + w];
+            if (reached == 0) {
+                continue;
+            }
+            nextMask[row * maskWords + (w >>> 6)] |= 1L << w;
+            reachedCells += Long.bitCount(reached);
+            if (distances != null) {
+                recordDistances(distances, row, w, reached, distance);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula en candidateMask las palabras de la fila que pueden recibir celdas:
+     * palabras activas de la fila y de sus vecinas, extendidas una palabra a cada lado
+     * @return false si no hay ninguna
+     */
+    private boolean collectCandidates(int row) {
+        long any = 0;
+        long carryFromLeft = 0;
+        for (int m = 0; m < maskWords; m++) {
+            long active = frontierMask[row * maskWords + m];
+            if (row > 0) {
+                active |= frontierMask[(row - 1) * maskWords + m];
+            }
+            if (row < rows - 1) {
+                active |= frontierMask[(row + 1) * maskWords + m];
+            }
+            candidateMask[m] = active;
+            any |= active;
+        }
+        if (any == 0) {
+            return false;
+        }
+        // Dilatar ± 1 palabra (acarreo entre longs de la máscara)
+        for (int m = 0; m < maskWords; m++) {
+            long active = candidateMask[m];
+            long carryFromRight = m < maskWords - 1 ? candidateMask[m + 1] << 63 : 0;
+            candidateMask[m] = active | active << 1 | active >>> 1 | carryFromLeft | carryFromRight;
+            carryFromLeft = active >>> 63;
+        }
+        return true;
+    }
+
+    /**
+     * Pone en cero las palabras activas de la frontera en las filas [minRow, maxRow] y sus máscaras
+     */
+    private void clearFrontier(int minRow, int maxRow) {
+        for (int row = Math.max(0, minRow); row <= maxRow; row++) {
+            for (int m = 0; m < maskWords; m++) {
+                int maskIndex = row * maskWords + m;
+                long active = frontierMask[maskIndex];
+                while (active != 0) {
+                    frontier[row * words + (m << 6) + Long.numberOfTrailingZeros(active)] = 0L;
+                    active &= active - 1;
+                }
+                frontierMask[maskIndex] = 0L;
+            }
+        }
+    }
+
+    /**
+     * Escribe distance para cada bit puesto de la palabra
+     */
+    private void recordDistances(int[] distances, int row, int word, long bits, int distance) {
+        int base = row * cols + (word << 6);
+        while (bits != 0) {
+            distances[base + Long.numberOfTrailingZeros(bits)] = distance;
+            bits &= bits - 1;
+        }
+    }
+
+    private boolean isVisitedWithMod(int row, int col, int mod) {
+        int index = row * words + (col >>> 6);
+        long bit = 1L << col;
+        if ((visited[index] & bit) == 0) {
+            return false;
+        }
+        int value = ((modLow[index] & bit) != 0 ? 1 : 0) | ((modHigh[index] & bit) != 0 ? 2 : 0);
+        return value == mod;
+    }
+
+    /**
+     * Llena el bitset de celdas libres a partir de la matriz en la primera consulta (o tras invalidate())
+     */
+    private void prepare() {
+        if (prepared) {
+            return;
+        }
+        Arrays.fill(passable, 0L);
+        for (int row = 0; row < rows; row++) {
+            char[] line = matrix[row];
+            int base = row * words;
+            for (int col = 0; col < cols; col++) {
+                if (line[col] != '#') {
+                    passable[base + (col >>> 6)] |= 1L << col;
+                }
+            }
+        }
+        prepared = true;
+    }
+
+    /**
+     * Avisa que la matriz se editó: la próxima consulta vuelve a llenar el bitset de celdas
+     * libres y recalcula el índice de componentes
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        prepared = false;
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
@@ -0,0 +1,181 @@
+import java.util.*;
+
+/**
+ * Búsqueda de rutas de costo mínimo en terreno con pesos usando Dijkstra con cola de Dial (BucketQueue)
+ * - '#' sigue siendo obstáculo
+ * - Las celdas '1'..'9' cuestan su dígito; el resto de celdas ('.', 'S', 'E', ...) cuesta 1
+ * - La tabla char -> costo es configurable; el costo se paga al ENTRAR a la celda
+ * - Como los costos son enteros pequeños, cada operación de la cola es O(1) en vez de O(log n)
+ * La ruta retornada es una List<Point> compatible con printMatrixWithPath de los demás buscadores
+ * Los costos se leen de la matriz en cada consulta, pero tras editarla hay que llamar a invalidate()
+ */
+public class MatrixPathFinderDijkstra implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Direcciones: arriba, abajo, izquierda, derecha
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    /**
+     * Costo máximo admitido por celda: la cola de cubetas reserva maxCost + 1 cubetas al construirse
+     */
+    public static final int MAX_COST = 255;
+
+    // Costo por carácter (0 = intransitable) y costo máximo (número de cubetas - 1)
+    private final int[] costTable;
+    private final int maxCost;
+
+    // Costo total de la última ruta encontrada (-1 si no hubo ruta)
+    private long lastPathCost;
+
+    // Estado reutilizado entre consultas: distancias/padres con sello de generación y cubetas
+    private final SearchWorkspace workspace;
+    private final BucketQueue queue;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+
+    /**
+     * Constructor con la tabla de costos por defecto: '1'..'9' = dígito, '#' = obstáculo, resto = 1
+     */
+    public MatrixPathFinderDijkstra(char[][] matrix) {
+        this(matrix, Collections.emptyMap());
+    }
+
+    /**
+     * Constructor con tabla de costos personalizada
+     * Las entradas de customCosts reemplazan a las de la tabla por defecto
+     * Precondición: todos los costos están en [1, MAX_COST]; '#' no puede redefinirse;
+     * (rows * cols) * costo máximo cabe en un int (las distancias acumuladas son int)
+     * @throws IllegalArgumentException si algún costo es inválido o la matriz es demasiado grande para sus costos
+     */
+    public MatrixPathFinderDijkstra(char[][] matrix, Map<Character, Integer> customCosts) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.costTable = new int[Character.MAX_VALUE + 1];
+        this.lastPathCost = -1;
+
+        Arrays.fill(costTable, 1);
+        for (char digit = '1'; digit <= '9'; digit++) {
+            costTable[digit] = digit - '0';
+        }
+        for (Map.Entry<Character, Integer> entry : customCosts.entrySet()) {
+            char cell = entry.getKey();
+            int cost = entry.getValue();
+            if (cell == '#') {
+                throw new IllegalArgumentException("'#' es obstáculo y no puede tener costo");
+            }
+            if (cost < 1 || cost > MAX_COST) {
+                throw new IllegalArgumentException("Costo inválido para '" + cell + "': " + cost + " (rango [1, " + MAX_COST + "])");
+            }
+            costTable[cell] = cost;
+        }
+        costTable['#'] = 0;
+
+        int max = 1;
+        for (int cost : costTable) {
+            max = Math.max(max, cost);
+        }
+        this.maxCost = max;
+        if ((long) rows * cols * maxCost > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matriz de " + rows + "x" + cols
+                + " demasiado grande para costo máximo " + maxCost + ": la distancia excedería un int");
+        }
+        this.workspace = new SearchWorkspace(rows * cols);
+        this.queue = new BucketQueue(maxCost);
+    }
+
+    /**
+     * Busca la ruta de menor costo total usando Dijkstra con cola de cubetas
+     * @return la ruta desde start hasta end, o lista vacía si no existe
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        lastPathCost = -1;
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        workspace.beginQuery();
+        queue.clear();
+
+        int startId = start.row * cols + start.col;
+        int endId = end.row * cols + end.col;
+        workspace.visit(startId, -1, 0);
+        queue.insert(startId, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            int currentDistance = workspace.distanceOf(current);
+            if (queue.currentPriority() != currentDistance) {
+                continue; // Entrada obsoleta: la celda ya se extrajo con menor costo
+            }
+
+            if (current == endId) {
+                lastPathCost = currentDistance;
+                return workspace.pathTo(endId, cols);
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+
+            // Explorar vecinos
+            for (int[] dir : DIRECTIONS) {
+                int newRow = row + dir[0];
+                int newCol = col + dir[1];
+
+                if (isValid(newRow, newCol)) {
+                    int cost = costTable[matrix[newRow][newCol]];
+                    if (cost == 0) {
+                        continue; // Obstáculo
+                    }
+                    int neighbor = newRow * cols + newCol;
+                    int newDistance = currentDistance + cost;
+                    if (newDistance < workspace.distanceOf(neighbor)) {
+                        workspace.visit(neighbor, current, newDistance);
+                        queue.insert(neighbor, newDistance);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Retorna el costo total de la última ruta encontrada, o -1 si no hubo ruta
+     */
+    public long getLastPathCost() {
+        return lastPathCost;
+    }
+
+    /**
+     * Retorna el costo de entrar a una celda con el carácter indicado (0 = intransitable)
+     */
+    public int getCellCost(char cell) {
+        return costTable[cell];
+    }
+
+    /**
+     * Verifica si las coordenadas son válidas
+     */
+    private boolean isValid(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Avisa que la matriz se editó: la próxima consulta recalcula el índice de componentes
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
@@ -0,0 +1,279 @@
+import java.util.*;
+
+/**
+ * Búsqueda en anchura por fronteras (frontier search) con recuperación de la ruta por
+ * divide y vencerás, para matrices cuyo tamaño se acerca al límite del heap
+ * - No guarda padres ni visitados por celda: cada lado (desde start y desde end) conserva solo
+ *   su nivel anterior y su nivel actual, como arreglos ordenados de ids de celda
+ * - En una grilla 4-conectada los vecinos de una celda del nivel d están en el nivel d - 1 o
+ *   d + 1 (la grilla es bipartita), así que restar el nivel anterior basta para no volver atrás
+ * - Los dos lados avanzan alternados; la primera celda común m está en una ruta mínima y
+ *   parte el problema en (start, m) y (m, end), cada uno de la mitad de longitud, que se
+ *   resuelven igual hasta llegar a celdas vecinas
+ * Memoria auxiliar: O(ancho máximo de frontera) en lugar de O(rows * cols) como findPathBFS
+ * (SearchWorkspace y GridComponentIndex); lee la matriz directamente, sin GridGraph
+ * Tiempo: O(rows * cols * log(longitud)) por las búsquedas repetidas en cada nivel de recursión,
+ * más el ordenamiento de cada nivel
+ * Las rutas son de longitud mínima; ante empates pueden diferir de la de findPathBFS
+ */
+public class MatrixPathFinderFrontier implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Niveles reutilizados entre búsquedas: anterior, actual y siguiente de cada lado
+    private Layer forwardPrevious = new Layer();
+    private Layer forwardCurrent = new Layer();
+    private Layer backwardPrevious = new Layer();
+    private Layer backwardCurrent = new Layer();
+    private Layer next = new Layer();
+
+    // Distancias de la celda de encuentro de la última búsqueda a su origen y a su destino
+    private int meetingDepth;
+    private int remainingDepth;
+
+    // Estadísticas de la última consulta
+    private long expandedCells;
+    private int searches;
+    private int peakFrontier;
+
+    /**
+     * Nivel de la búsqueda: ids de celda ordenados y sin repetir en cells[0, size)
+     */
+    private static final class Layer {
+        int[] cells = new int[16];
+        int size;
+
+        void add(int cell) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cells[size++] = cell;
+        }
+
+        void reset(int cell) {
+            cells[0] = cell;
+            size = 1;
+        }
+    }
+
+    public MatrixPathFinderFrontier(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+    }
+
+    /**
+     * Busca una ruta de longitud mínima de start a end
+     * Misma semántica que findPathBFS: un inicio sobre '#' puede salir, un fin sobre '#' no es alcanzable
+     * @return la ruta desde start hasta end, o lista vacía si no existe
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        expandedCells = 0;
+        searches = 0;
+        peakFrontier = 1;
+        int startId = start.row * cols + start.col;
+        int endId = end.row * cols + end.col;
+        if (startId == endId) {
+            List<Point> path = new ArrayList<>();
+            path.add(new Point(start.row, start.col));
+            return path;
+        }
+        if (!isPassable(endId)) {
+            return new ArrayList<>();
+        }
+
+        int meeting = search(startId, endId);
+        if (meeting < 0) {
+            return new ArrayList<>(); // Un lado se quedó sin frontera: no hay ruta
+        }
+
+        // La primera búsqueda fija la longitud; el resto de la ruta sale de búsquedas más cortas
+        int firstHalf = meetingDepth;
+        int length = firstHalf + remainingDepth;
+        int[] cells = new int[length + 1];
+        cells[0] = startId;
+        cells[firstHalf] = meeting;
+        cells[length] = endId;
+        recover(cells, 0, firstHalf);
+        recover(cells, firstHalf, length);
+
+        List<Point> path = new ArrayList<>(length + 1);
+        for (int cell : cells) {
+            path.add(new Point(cell / cols, cell % cols));
+        }
+        return path;
+    }
+
+    /**
+     * Completa cells[from + 1, to) sabiendo que cells[from] y cells[to] están a distancia to - from
+     */
+    private void recover(int[] cells, int from, int to) {
+        if (to - from <= 1) {
+            return; // Celdas iguales o vecinas: no falta nada
+        }
+        int meeting = search(cells[from], cells[to]);
+        int middle = from + meetingDepth;
+        cells[middle] = meeting;
+        recover(cells, from, middle);
+        recover(cells, middle, to);
+    }
+
+    /**
+     * Búsqueda bidireccional por fronteras de source a target (target libre y distinto de source)
+     * Alterna un nivel hacia adelante y uno hacia atrás; se detiene en el primer nivel nuevo que
+     * toca la frontera del otro lado (ese nivel fija la distancia mínima)
+     * @return una celda común, o -1 si no hay ruta
+     *         (meetingDepth y remainingDepth quedan con sus distancias a source y a target)
+     */
+    private int search(int source, int target) {
+        searches++;
+        forwardPrevious.size = 0;
+        forwardCurrent.reset(source);
+        backwardPrevious.size = 0;
+        backwardCurrent.reset(target);
+        int forwardDepth = 0;
+        int backwardDepth = 0;
+
+        while (true) {
+            // Hacia adelante
+            expand(forwardCurrent, forwardPrevious);
+            if (next.size == 0) {
+                return -1;
+            }
+            forwardDepth++;
+            int meeting = firstCommon(next, backwardCurrent);
+            if (meeting >= 0) {
+                meetingDepth = forwardDepth;
+                remainingDepth = backwardDepth;
+                return meeting;
+            }
+            Layer recycled = forwardPrevious;
+            forwardPrevious = forwardCurrent;
+            forwardCurrent = next;
+            next = recycled;
+
+            // Hacia atrás (los costos son simétricos salvo un inicio sobre '#', que nunca es vecino)
+            expand(backwardCurrent, backwardPrevious);
+            if (next.size == 0) {
+                return -1;
+            }
+            backwardDepth++;
+            meeting = firstCommon(next, forwardCurrent);
+            if (meeting >= 0) {
+                meetingDepth = forwardDepth;
+                remainingDepth = backwardDepth;
+                return meeting;
+            }
+            recycled = backwardPrevious;
+            backwardPrevious = backwardCurrent;
+            backwardCurrent = next;
+            next = recycled;
+        }
+    }
+
+    /**
+     * Escribe en next los vecinos libres de current, ordenados, sin repetir y sin los de previous
+     * Complejidad: O(F log F) con F el tamaño del nivel
+     */
+    private void expand(Layer current, Layer previous) {
+        next.size = 0;
+        expandedCells += current.size;
+        for (int i = 0; i < current.size; i++) {
+            int cell = current.cells[i];
+            int row = cell / cols;
+            int col = cell - row * cols;
+            if (row > 0 && isPassable(cell - cols)) {
+                next.add(cell - cols);
+            }
+            if (row < rows - 1 && isPassable(cell + cols)) {
+                next.add(cell + cols);
+            }
+            if (col > 0 && isPassable(cell - 1)) {
+                next.add(cell - 1);
+            }
+            if (col < cols - 1 && isPassable(cell + 1)) {
+                next.add(cell + 1);
+            }
+        }
+        Arrays.sort(next.cells, 0, next.size);
+
+        // Quitar repetidos y las celdas del nivel anterior en una sola pasada de mezcla
+        int kept = 0;
+        int p = 0;
+        for (int i = 0; i < next.size; i++) {
+            int cell = next.cells[i];
+            if (kept > 0 && next.cells[kept - 1] == cell) {
+                continue;
+            }
+            while (p < previous.size && previous.cells[p] < cell) {
+                p++;
+            }
+            if (p < previous.size && previous.cells[p] == cell) {
+                continue;
+            }
+            next.cells[kept++] = cell;
+        }
+        next.size = kept;
+        peakFrontier = Math.max(peakFrontier, kept);
+    }
+
+    /**
+     * Primera celda común de dos niveles ordenados (mezcla lineal), o -1 si no comparten ninguna
+     */
+    private static int firstCommon(Layer a, Layer b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.cells[i] < b.cells[j]) {
+                i++;
+            } else if (a.cells[i] > b.cells[j]) {
+                j++;
+            } else {
+                return a.cells[i];
+            }
+        }
+        return -1;
+    }
+
+    private boolean isPassable(int cell) {
+        return matrix[cell / cols][cell % cols] != '#';
+    }
+
+    /**
+     * Retorna las celdas expandidas en la última consulta (sumando todas las búsquedas)
+     */
+    public long getExpandedCells() {
+        return expandedCells;
+    }
+
+    /**
+     * Retorna cuántas búsquedas por fronteras hizo la última consulta (1 + recuperación de la ruta)
+     */
+    public int getSearchCount() {
+        return searches;
+    }
+
+    /**
+     * Retorna el nivel más ancho de la última consulta (celdas)
+     */
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    /**
+     * Retorna los bytes que ocupan hoy los arreglos de niveles (crecen hasta el nivel más ancho visto)
+     */
+    public long getBufferBytes() {
+        return 4L * (forwardPrevious.cells.length + forwardCurrent.cells.length
+            + backwardPrevious.cells.length + backwardCurrent.cells.length + next.cells.length);
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.*;
+
+/**
+ * Búsqueda de rutas DFS/BFS sobre GridGraph: todo el recorrido trabaja con ids enteros
+ * - Frontera (cola o pila) en un int[] reutilizado, sin objetos Point ni nodos de cola
+ * - Visitados y padres en un SearchWorkspace (int[] con sello de generación)
+ * - Transitabilidad leída de un byte[] contiguo en lugar de matrix[row][col]
+ * Solo la ruta retornada se convierte a List<Point>, con la misma forma que MatrixPathFinder
+ * Si la matriz se edita después de construirlo, hay que llamar a invalidate() antes de la siguiente consulta
+ */
+public class MatrixPathFinderGrid implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Estado reutilizado entre consultas: frontera de ids, vecinos de la celda actual y padres
+    private final int[] frontier;
+    private final int[] neighbors;
+    private final SearchWorkspace workspace;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    private final GridGraph graph; // Transitabilidad copiada de la matriz (ver invalidate())
+
+    public MatrixPathFinderGrid(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.graph = new GridGraph(matrix);
+        // Cada celda entra a la frontera a lo sumo una vez (se marca al descubrirla)
+        this.frontier = new int[rows * cols];
+        this.neighbors = new int[4];
+        this.workspace = new SearchWorkspace(rows * cols);
+    }
+
+    /**
+     * Motor por defecto: BFS (ruta más corta)
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        return findPathBFS(start, end);
+    }
+
+    /**
+     * Busca una ruta usando BFS con una cola implícita en el int[] de frontera (head/tail)
+     */
+    public List<Point> findPathBFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        workspace.beginQuery();
+
+        int startId = graph.idOf(start);
+        int endId = graph.idOf(end);
+        int head = 0;
+        int tail = 0;
+        frontier[tail++] = startId;
+        workspace.visit(startId, -1);
+
+        while (head < tail) {
+            int current = frontier[head++];
+
+            if (current == endId) {
+                return workspace.pathTo(endId, cols);
+            }
+
+            // Explorar vecinos libres
+            int count = graph.neighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!workspace.isVisited(neighbor)) {
+                    workspace.visit(neighbor, current);
+                    frontier[tail++] = neighbor;
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Busca una ruta usando DFS con una pila implícita en el int[] de frontera
+     * Explora en el mismo orden que MatrixPathFinder.findPathDFS, por lo que retorna la misma ruta
+     */
+    public List<Point> findPathDFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        workspace.beginQuery();
+
+        int startId = graph.idOf(start);
+        int endId = graph.idOf(end);
+        int top = 0;
+        frontier[top++] = startId;
+        workspace.visit(startId, -1);
+
+        while (top > 0) {
+            int current = frontier[--top];
+
+            if (current == endId) {
+                return workspace.pathTo(endId, cols);
+            }
+
+            // Explorar vecinos libres
+            int count = graph.neighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!workspace.isVisited(neighbor)) {
+                    workspace.visit(neighbor, current);
+                    frontier[top++] = neighbor;
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Avisa que la matriz se editó: vuelve a copiar la transitabilidad al grafo
+     * y la próxima consulta recalcula el índice de componentes
+     * Complejidad: O(rows * cols)
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        graph.refresh();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
@@ -0,0 +1,553 @@
+import java.util.*;
+
+/**
+ * Búsqueda jerárquica de rutas (HPA*) sobre la misma matriz char[][] que MatrixPathFinder
+ * Preprocesamiento (una vez, en el constructor):
+ * - Divide la matriz en clústeres de clusterSize x clusterSize celdas
+ * - Crea nodos de entrada en cada tramo libre de la frontera entre clústeres vecinos
+ *   (uno en el centro si el tramo es corto, dos en los extremos si es largo)
+ * - Precalcula con BFS local las distancias entre entradas del mismo clúster
+ * Consulta:
+ * - Conecta temporalmente start y end a las entradas de su clúster
+ * - Busca con A* sobre el grafo abstracto (mucho más pequeño que la matriz)
+ * - Refina cada tramo abstracto con un BFS local dentro de un solo clúster
+ * La ruta es casi óptima (las distancias intra-clúster no salen del clúster)
+ * Si la matriz se edita, hay que llamar a invalidate(), que rehace el preprocesamiento
+ */
+public class MatrixPathFinderHierarchical implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Direcciones: arriba, abajo, izquierda, derecha
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    // Tramos de frontera con al menos esta longitud generan dos entradas en vez de una
+    private static final int LONG_ENTRANCE = 6;
+
+    private final int clusterSize;
+    private final int clusterRows;
+    private final int clusterCols;
+
+    // Grafo abstracto: nodo -> celda, celda -> nodo y aristas en formato CSR
+    private int[] nodeCell;
+    private int nodeCount;
+    private final Map<Integer, Integer> nodeByCell;
+    private int[][] clusterNodes;
+    private int[] nodeSlot; // posición del nodo dentro de clusterNodes[clúster del nodo]
+    private int[] edgeStart;
+    private int[] edgeTarget;
+    private int[] edgeCost;
+    private int edgeCount;
+
+    // Arreglos locales reutilizados por los BFS dentro de un clúster
+    private final int[] localDistance;
+    private final int[] localParent;
+    private final int[] localQueue;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+
+    private HierarchyStats stats;
+    private int expandedNodes;
+
+    /**
+     * Estadísticas medibles del preprocesamiento
+     */
+    public static class HierarchyStats {
+        private final long preprocessingNanos;
+        private final int clusterCount;
+        private final int abstractNodes;
+        private final int abstractEdges;
+        private final long estimatedMemoryBytes;
+
+        public HierarchyStats(long preprocessingNanos, int clusterCount, int abstractNodes,
+                              int abstractEdges, long estimatedMemoryBytes) {
+            this.preprocessingNanos = preprocessingNanos;
+            this.clusterCount = clusterCount;
+            this.abstractNodes = abstractNodes;
+            this.abstractEdges = abstractEdges;
+            this.estimatedMemoryBytes = estimatedMemoryBytes;
+        }
+
+        public long getPreprocessingNanos() { return preprocessingNanos; }
+        public int getClusterCount() { return clusterCount; }
+        public int getAbstractNodes() { return abstractNodes; }
+        public int getAbstractEdges() { return abstractEdges; }
+        public long getEstimatedMemoryBytes() { return estimatedMemoryBytes; }
+
+        @Override
+        public String toString() {
+            return String.format("Preproceso: %.2f ms, clústeres: %d, nodos: %d, aristas: %d, memoria: %.1f KB",
+                preprocessingNanos / 1_000_000.0, clusterCount, abstractNodes, abstractEdges,
+                estimatedMemoryBytes / 1024.0);
+        }
+    }
+
+    public MatrixPathFinderHierarchical(char[][] matrix) {
+        this(matrix, 32);
+    }
+
+    /**
+     * Constructor: construye la abstracción jerárquica con el tamaño de clúster indicado
+     * Precondición: clusterSize >= 2
+     * Postcondición: grafo abstracto listo y estadísticas disponibles en getStats()
+     * Complejidad: O(rows * cols + entradas * clusterSize^2)
+     */
+    public MatrixPathFinderHierarchical(char[][] matrix, int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("El tamaño de clúster debe ser >= 2: " + clusterSize);
+        }
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.clusterSize = clusterSize;
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+        this.nodeCell = new int[64];
+        this.nodeByCell = new HashMap<>();
+        this.localDistance = new int[clusterSize * clusterSize];
+        this.localParent = new int[clusterSize * clusterSize];
+        this.localQueue = new int[clusterSize * clusterSize];
+        preprocess();
+    }
+
+    /**
+     * Busca una ruta usando el grafo abstracto y refinando localmente
+     * @return la ruta desde start hasta end, o lista vacía si no existe
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        expandedNodes = 0;
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        int startCell = start.row * cols + start.col;
+        int endCell = end.row * cols + end.col;
+        if (startCell == endCell) {
+            List<Point> path = new ArrayList<>();
+            path.add(start);
+            return path;
+        }
+        if (matrix[start.row][start.col] == '#') {
+            return findPathFromObstacle(start, end);
+        }
+
+        // Nodos virtuales para start y end, conectados a las entradas de su clúster
+        int startNode = nodeCount;
+        int endNode = nodeCount + 1;
+        int startCluster = clusterOf(startCell);
+        int endCluster = clusterOf(endCell);
+        int[] startLinks = linkToCluster(startCell, startCluster);
+        int[] endLinks = linkToCluster(endCell, endCluster);
+        int directCost = -1;
+        if (startCluster == endCluster) {
+            localBfs(startCell, startCluster);
+            directCost = localDistance[localIndex(endCell, startCluster)];
+        }
+
+        int[] gScore = new int[nodeCount + 2];
+        int[] parent = new int[nodeCount + 2];
+        boolean[] closed = new boolean[nodeCount + 2];
+        IndexedMinHeap open = new IndexedMinHeap(nodeCount + 2);
+        Arrays.fill(gScore, Integer.MAX_VALUE);
+        gScore[startNode] = 0;
+        parent[startNode] = -1;
+        open.insert(startNode, 0);
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            expandedNodes++;
+            if (current == endNode) {
+                return refine(parent, startNode, endNode, startCell, endCell);
+            }
+            closed[current] = true;
+
+            if (current == startNode) {
+                int[] clusterList = clusterNodes[startCluster];
+                for (int i = 0; i < clusterList.length; i++) {
+                    if (startLinks[i] >= 0) {
+                        relax(current, clusterList[i], startLinks[i], end, gScore, parent, closed, open, endNode);
+                    }
+                }
+                if (directCost >= 0) {
+                    relax(current, endNode, directCost, end, gScore, parent, closed, open, endNode);
+                }
+                continue;
+            }
+
+            for (int e = edgeStart[current]; e < edgeStart[current + 1]; e++) {
+                relax(current, edgeTarget[e], edgeCost[e], end, gScore, parent, closed, open, endNode);
+            }
+            if (clusterOf(nodeCell[current]) == endCluster) {
+                int linkCost = endLinks[nodeSlot[current]];
+                if (linkCost >= 0) {
+                    relax(current, endNode, linkCost, end, gScore, parent, closed, open, endNode);
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Igual que findPathBFS, un inicio sobre '#' puede salir hacia sus vecinos libres,
+     * que pueden estar en otro clúster: se resuelve desde cada vecino y se toma la más corta
+     */
+    private List<Point> findPathFromObstacle(Point start, Point end) {
+        List<Point> best = new ArrayList<>();
+        int expanded = 0;
+        for (int[] dir : DIRECTIONS) {
+            int newRow = start.row + dir[0];
+            int newCol = start.col + dir[1];
+            if (newRow < 0 || newRow >= rows || newCol < 0 || newCol >= cols || matrix[newRow][newCol] == '#') {
+                continue;
+            }
+            List<Point> candidate = findPath(new Point(newRow, newCol), end);
+            expanded += expandedNodes;
+            if (!candidate.isEmpty() && (best.isEmpty() || candidate.size() < best.size())) {
+                best = candidate;
+            }
+        }
+        expandedNodes = expanded;
+        if (!best.isEmpty()) {
+            best.add(0, start);
+        }
+        return best;
+    }
+
+    /**
+     * Retorna las estadísticas del preprocesamiento (tiempo, tamaño del grafo y memoria)
+     */
+    public HierarchyStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Retorna el número de nodos abstractos expandidos en la última llamada a findPath
+     */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    // ========== PREPROCESAMIENTO ==========
+
+    /**
+     * Construye el grafo abstracto desde cero y mide el tiempo y la memoria en stats
+     */
+    private void preprocess() {
+        nodeCount = 0;
+        nodeByCell.clear();
+        long startTime = System.nanoTime();
+        build();
+        long elapsed = System.nanoTime() - startTime;
+        stats = new HierarchyStats(elapsed, clusterRows * clusterCols, nodeCount,
+            edgeCount, estimateMemory());
+    }
+
+    private void build() {
+        // Aristas no dirigidas acumuladas como tripletas (a, b, costo) en un arreglo plano
+        int[] edges = new int[3 * 64];
+        edgeCount = 0;
+
+        // Entradas entre clústeres vecinos (frontera vertical y horizontal)
+        for (int clusterRow = 0; clusterRow < clusterRows; clusterRow++) {
+            for (int clusterCol = 0; clusterCol < clusterCols; clusterCol++) {
+                int rowStart = clusterRow * clusterSize;
+                int rowEnd = Math.min(rows, rowStart + clusterSize) - 1;
+                int colStart = clusterCol * clusterSize;
+                int colEnd = Math.min(cols, colStart + clusterSize) - 1;
+                if (colEnd + 1 < cols) {
+                    edges = addEntrances(rowStart, rowEnd, colEnd, false, edges);
+                }
+                if (rowEnd + 1 < rows) {
+                    edges = addEntrances(colStart, colEnd, rowEnd, true, edges);
+                }
+            }
+        }
+
+        // Agrupar nodos por clúster
+        List<List<Integer>> byCluster = new ArrayList<>();
+        for (int i = 0; i < clusterRows * clusterCols; i++) {
+            byCluster.add(new ArrayList<>());
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            byCluster.get(clusterOf(nodeCell[node])).add(node);
+        }
+        clusterNodes = new int[byCluster.size()][];
+        nodeSlot = new int[nodeCount];
+        for (int i = 0; i < byCluster.size(); i++) {
+            List<Integer> nodes = byCluster.get(i);
+            clusterNodes[i] = new int[nodes.size()];
+            for (int j = 0; j < nodes.size(); j++) {
+                clusterNodes[i][j] = nodes.get(j);
+                nodeSlot[nodes.get(j)] = j;
+            }
+        }
+
+        // Distancias intra-clúster entre todas las entradas del mismo clúster
+        for (int cluster = 0; cluster < clusterNodes.length; cluster++) {
+            int[] nodes = clusterNodes[cluster];
+            for (int i = 0; i < nodes.length; i++) {
+                localBfs(nodeCell[nodes[i]], cluster);
+                for (int j = i + 1; j < nodes.length; j++) {
+                    int distance = localDistance[localIndex(nodeCell[nodes[j]], cluster)];
+                    if (distance > 0) {
+                        edges = addEdge(edges, nodes[i], nodes[j], distance);
+                    }
+                }
+            }
+        }
+
+        // Aristas no dirigidas en formato CSR
+        edgeStart = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            edgeStart[edges[3 * e] + 1]++;
+            edgeStart[edges[3 * e + 1] + 1]++;
+        }
+        for (int i = 1; i < edgeStart.length; i++) {
+            edgeStart[i] += edgeStart[i - 1];
+        }
+        edgeTarget = new int[edgeCount * 2];
+        edgeCost = new int[edgeCount * 2];
+        int[] fill = Arrays.copyOf(edgeStart, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int a = edges[3 * e];
+            int b = edges[3 * e + 1];
+            int cost = edges[3 * e + 2];
+            edgeTarget[fill[a]] = b;
+            edgeCost[fill[a]++] = cost;
+            edgeTarget[fill[b]] = a;
+            edgeCost[fill[b]++] = cost;
+        }
+        nodeCell = Arrays.copyOf(nodeCell, nodeCount);
+    }
+
+    /**
+     * Recorre una frontera entre dos clústeres y crea entradas en cada tramo libre en ambos lados
+     * @param from     primera posición a lo largo de la frontera
+     * @param to       última posición a lo largo de la frontera
+     * @param line     fila (horizontal) o columna (vertical) del lado izquierdo/superior
+     * @param horizontal true si la frontera separa un clúster de su vecino inferior
+     */
+    private int[] addEntrances(int from, int to, int line, boolean horizontal, int[] edges) {
+        int runStart = -1;
+        for (int position = from; position <= to + 1; position++) {
+            boolean open = position <= to && isCrossable(position, line, horizontal);
+            if (open && runStart == -1) {
+                runStart = position;
+            } else if (!open && runStart != -1) {
+                int runEnd = position - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    edges = addTransition(runStart, line, horizontal, edges);
+                    edges = addTransition(runEnd, line, horizontal, edges);
+                } else {
+                    edges = addTransition((runStart + runEnd) / 2, line, horizontal, edges);
+                }
+                runStart = -1;
+            }
+        }
+        return edges;
+    }
+
+    private boolean isCrossable(int position, int line, boolean horizontal) {
+        if (horizontal) {
+            return matrix[line][position] != '#' && matrix[line + 1][position] != '#';
+        }
+        return matrix[position][line] != '#' && matrix[position][line + 1] != '#';
+    }
+
+    private int[] addTransition(int position, int line, boolean horizontal, int[] edges) {
+        int cellA = horizontal ? line * cols + position : position * cols + line;
+        int cellB = horizontal ? cellA + cols : cellA + 1;
+        return addEdge(edges, nodeFor(cellA), nodeFor(cellB), 1);
+    }
+
+    private int[] addEdge(int[] edges, int a, int b, int cost) {
+        if (3 * edgeCount == edges.length) {
+            edges = Arrays.copyOf(edges, edges.length * 2);
+        }
+        edges[3 * edgeCount] = a;
+        edges[3 * edgeCount + 1] = b;
+        edges[3 * edgeCount + 2] = cost;
+        edgeCount++;
+        return edges;
+    }
+
+    private int nodeFor(int cell) {
+        Integer existing = nodeByCell.get(cell);
+        if (existing != null) {
+            return existing;
+        }
+        if (nodeCount == nodeCell.length) {
+            nodeCell = Arrays.copyOf(nodeCell, nodeCell.length * 2);
+        }
+        nodeCell[nodeCount] = cell;
+        nodeByCell.put(cell, nodeCount);
+        return nodeCount++;
+    }
+
+    /**
+     * Memoria aproximada del grafo abstracto (arreglos + entradas del HashMap celda -> nodo)
+     */
+    private long estimateMemory() {
+        long arrays = 4L * (nodeCell.length + nodeSlot.length + edgeStart.length + edgeTarget.length + edgeCost.length)
+            + 4L * (localDistance.length + localParent.length + localQueue.length);
+        long clusters = 0;
+        for (int[] nodes : clusterNodes) {
+            clusters += 16 + 4L * nodes.length;
+        }
+        long map = 48L * nodeByCell.size(); // Nodo del mapa + Integer clave + Integer valor
+        return arrays + clusters + map;
+    }
+
+    // ========== CONSULTA ==========
+
+    private void relax(int from, int to, int cost, Point end, int[] gScore, int[] parent,
+                       boolean[] closed, IndexedMinHeap open, int endNode) {
+        if (closed[to]) {
+            return;
+        }
+        int tentative = gScore[from] + cost;
+        if (tentative >= gScore[to]) {
+            return;
+        }
+        gScore[to] = tentative;
+        parent[to] = from;
+        int h = to == endNode ? 0 : heuristic(nodeCell[to], end);
+        long key = ((long) (tentative + h) << 32) - tentative;
+        if (open.contains(to)) {
+            open.decreaseKey(to, key);
+        } else {
+            open.insert(to, key);
+        }
+    }
+
+    /**
+     * Distancias locales desde una celda hasta cada entrada de su clúster (-1 si no alcanza)
+     */
+    private int[] linkToCluster(int cell, int cluster) {
+        int[] nodes = clusterNodes[cluster];
+        int[] links = new int[nodes.length];
+        localBfs(cell, cluster);
+        for (int i = 0; i < nodes.length; i++) {
+            links[i] = localDistance[localIndex(nodeCell[nodes[i]], cluster)];
+        }
+        return links;
+    }
+
+    /**
+     * Une los tramos de la ruta abstracta en una ruta de celdas
+     */
+    private List<Point> refine(int[] parent, int startNode, int endNode, int startCell, int endCell) {
+        List<Integer> abstractCells = new ArrayList<>();
+        for (int node = endNode; node != -1; node = parent[node]) {
+            abstractCells.add(node == startNode ? startCell : node == endNode ? endCell : nodeCell[node]);
+        }
+        Collections.reverse(abstractCells);
+
+        List<Point> path = new ArrayList<>();
+        path.add(new Point(startCell / cols, startCell % cols));
+        for (int i = 1; i < abstractCells.size(); i++) {
+            int from = abstractCells.get(i - 1);
+            int to = abstractCells.get(i);
+            if (from == to) {
+                continue; // start o end coinciden con una entrada
+            }
+            int cluster = clusterOf(from);
+            if (cluster == clusterOf(to)) {
+                appendLocalPath(path, from, to, cluster);
+            } else {
+                path.add(new Point(to / cols, to % cols)); // Arista entre clústeres: celdas vecinas
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Agrega al final de path la ruta local (sin la celda inicial) de from a to dentro del clúster
+     */
+    private void appendLocalPath(List<Point> path, int from, int to, int cluster) {
+        localBfs(from, cluster);
+        int rowStart = (cluster / clusterCols) * clusterSize;
+        int colStart = (cluster % clusterCols) * clusterSize;
+        List<Point> segment = new ArrayList<>();
+        int current = localIndex(to, cluster);
+        int source = localIndex(from, cluster);
+        while (current != source) {
+            segment.add(new Point(rowStart + current / clusterSize, colStart + current % clusterSize));
+            current = localParent[current];
+        }
+        Collections.reverse(segment);
+        path.addAll(segment);
+    }
+
+    /**
+     * BFS restringido a un clúster; deja distancias y padres en localDistance/localParent
+     */
+    private void localBfs(int sourceCell, int cluster) {
+        int rowStart = (cluster / clusterCols) * clusterSize;
+        int colStart = (cluster % clusterCols) * clusterSize;
+        int height = Math.min(rows, rowStart + clusterSize) - rowStart;
+        int width = Math.min(cols, colStart + clusterSize) - colStart;
+        Arrays.fill(localDistance, -1);
+
+        int head = 0;
+        int tail = 0;
+        int source = localIndex(sourceCell, cluster);
+        localDistance[source] = 0;
+        localQueue[tail++] = source;
+
+        while (head < tail) {
+            int current = localQueue[head++];
+            int row = current / clusterSize;
+            int col = current % clusterSize;
+            for (int[] dir : DIRECTIONS) {
+                int newRow = row + dir[0];
+                int newCol = col + dir[1];
+                if (newRow < 0 || newRow >= height || newCol < 0 || newCol >= width) {
+                    continue;
+                }
+                int next = newRow * clusterSize + newCol;
+                if (localDistance[next] == -1 && matrix[rowStart + newRow][colStart + newCol] != '#') {
+                    localDistance[next] = localDistance[current] + 1;
+                    localParent[next] = current;
+                    localQueue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private int clusterOf(int cell) {
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    private int localIndex(int cell, int cluster) {
+        int row = cell / cols - (cluster / clusterCols) * clusterSize;
+        int col = cell % cols - (cluster % clusterCols) * clusterSize;
+        return row * clusterSize + col;
+    }
+
+    private int heuristic(int cell, Point end) {
+        return Math.abs(cell / cols - end.row) + Math.abs(cell % cols - end.col);
+    }
+
+    /**
+     * Avisa que la matriz se editó: rehace el preprocesamiento (entradas y distancias entre
+     * ellas) y la próxima consulta recalcula el índice de componentes
+     * Postcondición: getStats() describe el nuevo preprocesamiento
+     * Complejidad: la misma del constructor
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        preprocess();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
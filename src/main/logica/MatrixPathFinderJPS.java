@@ -0,0 +1,227 @@
+import java.util.*;
+
+/**
+ * Búsqueda de rutas con Jump Point Search (variante 4-conectada) sobre la misma matriz char[][]
+ * - Válida para grillas de costo uniforme como las de MatrixPathFinder ('#' = obstáculo)
+ * - En lugar de agregar cada vecino al conjunto abierto, "salta" en línea recta hasta
+ *   encontrar un punto de salto (vecino forzado, destino o cambio de dirección útil)
+ * - Conjunto abierto: IndexedMinHeap con f = g + Manhattan, igual que MatrixPathFinderAStar
+ * - La ruta retornada se expande celda por celda, con la misma forma que findPathBFS
+ * Si la matriz se edita después de construirlo, hay que llamar a invalidate() antes de la siguiente consulta
+ */
+public class MatrixPathFinderJPS implements PathFinderEngine {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+
+    // Direcciones: arriba, abajo, izquierda, derecha
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    // Puntos de salto extraídos del conjunto abierto en la última búsqueda
+    private int expandedNodes;
+
+    // Estado reutilizado entre consultas (ver SearchWorkspace)
+    private final SearchWorkspace workspace;
+    private final IndexedMinHeap open;
+    private final GridGraph graph; // Transitabilidad copiada de la matriz (ver invalidate())
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+
+    public MatrixPathFinderJPS(char[][] matrix) {
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.graph = new GridGraph(matrix);
+        this.workspace = new SearchWorkspace(rows * cols);
+        this.open = new IndexedMinHeap(rows * cols);
+    }
+
+    /**
+     * Busca la ruta más corta usando Jump Point Search 4-conectado
+     * @return la ruta desde start hasta end, o lista vacía si no existe
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        expandedNodes = 0;
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        workspace.beginQuery();
+        open.clear();
+
+        int startId = start.row * cols + start.col;
+        int endId = end.row * cols + end.col;
+        workspace.visit(startId, -1, 0);
+        open.insert(startId, priority(0, heuristic(start.row, start.col, end)));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            expandedNodes++;
+
+            if (current == endId) {
+                return expandPath(endId);
+            }
+            workspace.close(current);
+
+            int row = current / cols;
+            int col = current % cols;
+
+            for (int[] dir : prunedDirections(row, col, workspace.parentOf(current))) {
+                int jumpPoint = jump(row + dir[0], col + dir[1], dir[0], dir[1], end);
+                if (jumpPoint == -1 || workspace.isClosed(jumpPoint)) {
+                    continue;
+                }
+                int jumpRow = jumpPoint / cols;
+                int jumpCol = jumpPoint % cols;
+                int nextG = workspace.distanceOf(current) + Math.abs(jumpRow - row) + Math.abs(jumpCol - col);
+                if (nextG >= workspace.distanceOf(jumpPoint)) {
+                    continue;
+                }
+                workspace.visit(jumpPoint, current, nextG);
+                long key = priority(nextG, heuristic(jumpRow, jumpCol, end));
+                if (open.contains(jumpPoint)) {
+                    open.decreaseKey(jumpPoint, key);
+                } else {
+                    open.insert(jumpPoint, key);
+                }
+            }
+        }
+
+        return new ArrayList<>(); // No se encontró ruta
+    }
+
+    /**
+     * Retorna el número de puntos de salto expandidos en la última llamada a findPath
+     */
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Direcciones a explorar desde una celda según la dirección con la que se llegó a ella
+     * - Sin padre (inicio): las cuatro direcciones
+     * - Movimiento horizontal: seguir recto y abrir ambas verticales
+     * - Movimiento vertical: seguir recto y abrir ambas horizontales
+     */
+    private int[][] prunedDirections(int row, int col, int parentId) {
+        if (parentId == -1) {
+            return DIRECTIONS;
+        }
+        int dRow = Integer.signum(row - parentId / cols);
+        int dCol = Integer.signum(col - parentId % cols);
+        if (dCol != 0) {
+            return new int[][] {{0, dCol}, {-1, 0}, {1, 0}};
+        }
+        return new int[][] {{dRow, 0}, {0, -1}, {0, 1}};
+    }
+
+    /**
+     * Avanza desde (row, col) en la dirección (dRow, dCol) hasta encontrar un punto de salto
+     * @return id del punto de salto, o -1 si se llega a un obstáculo o al borde
+     */
+    private int jump(int row, int col, int dRow, int dCol, Point end) {
+        if (dCol != 0) {
+            return jumpHorizontal(row, col, dCol, end);
+        }
+        while (isWalkable(row, col)) {
+            if (row == end.row && col == end.col) {
+                return row * cols + col;
+            }
+            // Vecino forzado: una celda lateral se abre justo después de un obstáculo
+            if ((isWalkable(row, col - 1) && !isWalkable(row - dRow, col - 1))
+                    || (isWalkable(row, col + 1) && !isWalkable(row - dRow, col + 1))) {
+                return row * cols + col;
+            }
+            // En movimiento vertical, la celda es punto de salto si hay uno en horizontal
+            if (jumpHorizontal(row, col + 1, 1, end) != -1 || jumpHorizontal(row, col - 1, -1, end) != -1) {
+                return row * cols + col;
+            }
+            row += dRow;
+        }
+        return -1;
+    }
+
+    /**
+     * Salto en horizontal: se detiene en el destino o en una celda con vecino forzado vertical
+     */
+    private int jumpHorizontal(int row, int col, int dCol, Point end) {
+        while (isWalkable(row, col)) {
+            if (row == end.row && col == end.col) {
+                return row * cols + col;
+            }
+            if ((isWalkable(row - 1, col) && !isWalkable(row - 1, col - dCol))
+                    || (isWalkable(row + 1, col) && !isWalkable(row + 1, col - dCol))) {
+                return row * cols + col;
+            }
+            col += dCol;
+        }
+        return -1;
+    }
+
+    /**
+     * Distancia Manhattan desde (row, col) hasta el destino
+     */
+    private int heuristic(int row, int col, Point end) {
+        return Math.abs(row - end.row) + Math.abs(col - end.col);
+    }
+
+    /**
+     * Prioridad compuesta: f en los 32 bits altos; a igual f se prefiere mayor g
+     */
+    private static long priority(int g, int h) {
+        return ((long) (g + h) << 32) - g;
+    }
+
+    /**
+     * Verifica si la celda existe y no es obstáculo
+     */
+    private boolean isWalkable(int row, int col) {
+        return graph.isPassable(row, col);
+    }
+
+    /**
+     * Reconstruye la ruta uniendo los puntos de salto con todas las celdas intermedias
+     */
+    private List<Point> expandPath(int endId) {
+        List<Point> path = new ArrayList<>();
+        int current = endId;
+        path.add(new Point(current / cols, current % cols));
+
+        while (workspace.parentOf(current) != -1) {
+            int previous = workspace.parentOf(current);
+            int row = current / cols;
+            int col = current % cols;
+            int dRow = Integer.signum(previous / cols - row);
+            int dCol = Integer.signum(previous % cols - col);
+            // Los puntos de salto consecutivos siempre están alineados en fila o columna
+            while (row != previous / cols || col != previous % cols) {
+                row += dRow;
+                col += dCol;
+                path.add(new Point(row, col));
+            }
+            current = previous;
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Avisa que la matriz se editó: vuelve a copiar la transitabilidad al grafo
+     * y la próxima consulta recalcula el índice de componentes
+     * Complejidad: O(rows * cols)
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        graph.refresh();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
@@ -9,6 +9,8 @@ import java.util.stream.Collectors;
  * - List: ArrayList (acceso aleatorio rápido a rutas)
  * - Set: HashSet (celdas visitadas únicas), LinkedHashSet (conserva orden)
  * - Map: HashMap (índice rápido de rutas por ID), TreeMap (rutas ordenadas por longitud)
+ * 
+ * Si la matriz se edita después de la primera búsqueda, hay que llamar a invalidate()
  */
 public class MatrixPathFinderModern {
     private char[][] matrix;
@@ -24,6 +26,9 @@ public class MatrixPathFinderModern {
     // Direcciones
     private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
     
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    
     /**
      * Clase interna para representar información de ruta
      */
@@ -68,6 +73,7 @@ public class MatrixPathFinderModern {
         this.matrix = matrix;
         this.rows = matrix.length;
         this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
         this.allPaths = new ArrayList<>();
         this.visitedCells = new HashSet<>();
         this.pathIndex = new HashMap<>();
@@ -83,6 +89,10 @@ public class MatrixPathFinderModern {
         pathIndex.clear();
         pathsByLength.clear();
         
+        if (!componentIndex.canReach(start, end)) {
+            return;
+        }
+        
         Queue<List<Point>> queue = new LinkedList<>();
         Set<String> pathIds = new HashSet<>(); // Para evitar rutas duplicadas
         
@@ -361,6 +371,13 @@ public class MatrixPathFinderModern {
         return Collections.unmodifiableMap(pathsByLength);
     }
     
+    /**
+     * Avisa que la matriz se editó: la próxima consulta recalcula el índice de componentes
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+    }
+    
     public void printMatrixWithPath(List<Point> path) {
         char[][] displayMatrix = new char[rows][cols];
         
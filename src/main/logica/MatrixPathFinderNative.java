@@ -3,6 +3,7 @@ import java.util.*;
 /**
  * Implementación de búsqueda de rutas usando librerías nativas de Java
  * Usa ArrayDeque para pila (Deque) y cola (Queue)
+ * Si la matriz se edita después de la primera consulta, hay que llamar a invalidate()
  */
 public class MatrixPathFinderNative {
     private char[][] matrix;
@@ -12,10 +13,17 @@ public class MatrixPathFinderNative {
     // Direcciones: arriba, abajo, izquierda, derecha
     private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
     
+    // Espacio de trabajo reutilizado entre consultas (visitados con sello de generación + padres)
+    private SearchWorkspace workspace;
+    
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    
     public MatrixPathFinderNative(char[][] matrix) {
         this.matrix = matrix;
         this.rows = matrix.length;
         this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
     }
     
     /**
@@ -23,18 +31,22 @@ public class MatrixPathFinderNative {
      * Usa ArrayDeque como pila: push() para agregar, pop() para remover
      */
     public List<Point> findPathDFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        
         Deque<Point> stack = new ArrayDeque<>(); // Pila nativa
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         stack.push(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         
         while (!stack.isEmpty()) {
             Point current = stack.pop();
             
             if (current.equals(end)) {
-                return reconstructPath(parent, start, end);
+                return workspace.pathTo(end.row * cols + end.col, cols);
             }
             
             // Explorar vecinos
@@ -42,11 +54,10 @@ public class MatrixPathFinderNative {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     stack.push(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                 }
             }
         }
@@ -59,18 +70,22 @@ public class MatrixPathFinderNative {
      * Usa ArrayDeque como cola: offer() para agregar, poll() para remover
      */
     public List<Point> findPathBFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        
         Queue<Point> queue = new ArrayDeque<>(); // Cola nativa
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         queue.offer(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         
         while (!queue.isEmpty()) {
             Point current = queue.poll();
             
             if (current.equals(end)) {
-                return reconstructPath(parent, start, end);
+                return workspace.pathTo(end.row * cols + end.col, cols);
             }
             
             // Explorar vecinos
@@ -78,11 +93,10 @@ public class MatrixPathFinderNative {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     queue.offer(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                 }
             }
         }
@@ -90,6 +104,16 @@ public class MatrixPathFinderNative {
         return new ArrayList<>(); // No se encontró ruta
     }
     
+    /**
+     * Retorna el espacio de trabajo del buscador, creándolo en la primera consulta
+     */
+    private SearchWorkspace workspace() {
+        if (workspace == null) {
+            workspace = new SearchWorkspace(rows * cols);
+        }
+        return workspace;
+    }
+    
     /**
      * Verifica si las coordenadas son válidas
      */
@@ -98,19 +122,10 @@ public class MatrixPathFinderNative {
     }
     
     /**
-     * Reconstruye la ruta desde el punto de inicio hasta el final
+     * Avisa que la matriz se editó: la próxima consulta recalcula el índice de componentes
      */
-    private List<Point> reconstructPath(Point[][] parent, Point start, Point end) {
-        List<Point> path = new ArrayList<>();
-        Point current = end;
-        
-        while (current != null) {
-            path.add(current);
-            current = parent[current.row][current.col];
-        }
-        
-        Collections.reverse(path);
-        return path;
+    public void invalidate() {
+        componentIndex.invalidate();
     }
     
     /**
@@ -0,0 +1,430 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * BFS paralelo sincronizado por niveles sobre GridGraph
+ * - Cada nivel de la frontera se reparte en tareas de un ForkJoinPool
+ * - Fase de reclamo: cada celda nueva se asigna con CAS a la entrada de frontera que la descubre;
+ *   gana la clave mínima (posición en la frontera * 4 + dirección), es decir, la misma celda que
+ *   la descubriría primero en findPathBFS
+ * - Fase de recolección: la siguiente frontera se arma por bloques en el orden de esas claves
+ *   (conteo, suma prefija y escritura), así queda en el mismo orden que la cola secuencial
+ * Por eso padres, distancias y rutas son idénticos a los de MatrixPathFinder.findPathBFS
+ *
+ * Optimización por dirección (top-down / bottom-up):
+ * - TOP_DOWN: la frontera empuja hacia sus vecinos (reclamo con CAS)
+ * - BOTTOM_UP: cada celda libre sin visitar busca su padre entre sus vecinos de la frontera
+ *   (sin CAS ni contención); conviene cuando la frontera es muy ancha respecto de lo que falta
+ * - AUTO: cambia entre ambos según el tamaño de la frontera (heurística de Beamer)
+ * Cada nivel bottom-up revisa todas las celdas, así que en grillas (fronteras de ancho O(rows + cols))
+ * AUTO casi siempre elige top-down; bottom-up rinde con fronteras muy anchas, p. ej. muchas fuentes
+ * Precondición: rows * cols < 2^29 (las claves de reclamo usan int); el constructor lo verifica
+ * Si la matriz se edita después de construirlo, hay que llamar a invalidate() antes de la siguiente consulta
+ */
+public class MatrixPathFinderParallel implements PathFinderEngine {
+    /**
+     * Estrategia de expansión de cada nivel
+     */
+    public enum ExpansionMode { TOP_DOWN, BOTTOM_UP, AUTO }
+
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    // Entradas de frontera por bloque de recolección y mínimo para repartir en tareas
+    private static final int CHUNK_SIZE = 1024;
+    private static final int PARALLEL_THRESHOLD = 4 * CHUNK_SIZE;
+    // Heurística de Beamer adaptada al costo del recorrido bottom-up (todas las celdas):
+    // pasar a bottom-up cuando frontera > celdas / ALPHA y volver cuando frontera < celdas / BETA
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int NO_CLAIM = Integer.MAX_VALUE;
+    // Máximo de celdas para que id * 4 + dirección quepa en un int por debajo de NO_CLAIM
+    private static final int MAX_CELLS = 1 << 29;
+
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+    private final ForkJoinPool pool;
+    private ExpansionMode mode;
+
+    // Estado por consulta, indexado por id de celda
+    private final int[] level;    // Distancia desde el inicio, -1 si no se alcanzó
+    private final int[] parent;
+    private final int[] owner;    // Clave ganadora del reclamo en el nivel actual
+    private final int[] position; // Posición de la celda dentro de su frontera
+    private int[] frontier;
+    private int[] nextFrontier;
+    private int[] chunkCounts;
+
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    private final GridGraph graph; // Transitabilidad copiada de la matriz (ver invalidate())
+
+    // Estadísticas de la última consulta
+    private int topDownLevels;
+    private int bottomUpLevels;
+
+    /**
+     * Constructor: usa el pool común de fork/join y el modo AUTO
+     */
+    public MatrixPathFinderParallel(char[][] matrix) {
+        this(matrix, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor con pool explícito (su paralelismo fija el número de hilos)
+     * @throws IllegalArgumentException si la matriz tiene 2^29 celdas o más
+     */
+    public MatrixPathFinderParallel(char[][] matrix, ForkJoinPool pool) {
+        if ((long) matrix.length * matrix[0].length >= MAX_CELLS) {
+            throw new IllegalArgumentException("Matriz demasiado grande para las claves de reclamo: "
+                + matrix.length + "x" + matrix[0].length + " (se admiten menos de 2^29 celdas)");
+        }
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
+        this.graph = new GridGraph(matrix);
+        this.pool = pool;
+        this.mode = ExpansionMode.AUTO;
+        int cellCount = rows * cols;
+        this.level = new int[cellCount];
+        this.parent = new int[cellCount];
+        this.owner = new int[cellCount];
+        this.position = new int[cellCount];
+        this.frontier = new int[cellCount];
+        this.nextFrontier = new int[cellCount];
+        this.chunkCounts = new int[cellCount / CHUNK_SIZE + 1];
+    }
+
+    public void setExpansionMode(ExpansionMode mode) {
+        this.mode = mode;
+    }
+
+    public ExpansionMode getExpansionMode() {
+        return mode;
+    }
+
+    /**
+     * Motor por defecto: BFS paralelo (misma ruta que findPathBFS)
+     */
+    @Override
+    public List<Point> findPath(Point start, Point end) {
+        return findPathBFS(start, end);
+    }
+
+    /**
+     * Busca la ruta más corta expandiendo niveles en paralelo hasta alcanzar end
+     */
+    public List<Point> findPathBFS(Point start, Point end) {
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
+        int endId = graph.idOf(end);
+        search(graph, graph.idOf(start), endId);
+        if (level[endId] < 0) {
+            return new ArrayList<>();
+        }
+
+        int[] cells = new int[level[endId] + 1];
+        int length = 0;
+        for (int cell = endId; cell != -1; cell = parent[cell]) {
+            cells[length++] = cell;
+        }
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            int swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+        return graph.toPath(cells, length);
+    }
+
+    /**
+     * Calcula la distancia BFS desde start a todas las celdas (campo de distancias)
+     * @return arreglo indexado por id (row * cols + col); -1 si la celda no es alcanzable
+     */
+    public int[] distancesFrom(Point start) {
+        search(graph, graph.idOf(start), -1);
+        return Arrays.copyOf(level, level.length);
+    }
+
+    /**
+     * Retorna cuántos niveles de la última consulta se expandieron top-down
+     */
+    public int getTopDownLevels() {
+        return topDownLevels;
+    }
+
+    /**
+     * Retorna cuántos niveles de la última consulta se expandieron bottom-up
+     */
+    public int getBottomUpLevels() {
+        return bottomUpLevels;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * BFS por niveles desde startId; se detiene al terminar el nivel que alcanza endId (-1 = todos)
+     */
+    private void search(GridGraph graph, int startId, int endId) {
+        Arrays.fill(level, -1);
+        Arrays.fill(owner, NO_CLAIM);
+        topDownLevels = 0;
+        bottomUpLevels = 0;
+
+        level[startId] = 0;
+        parent[startId] = -1;
+        position[startId] = 0;
+        frontier[0] = startId;
+        int frontierSize = 1;
+        long unvisited = graph.getFreeCellCount() - (graph.isPassable(startId) ? 1 : 0);
+        boolean bottomUp = false;
+
+        for (int depth = 0; frontierSize > 0 && (endId < 0 || level[endId] < 0); depth++) {
+            if (mode == ExpansionMode.AUTO) {
+                bottomUp = bottomUp
+                    ? (long) frontierSize * BETA >= graph.getCellCount()
+                    : (long) frontierSize * ALPHA > graph.getCellCount() && unvisited > frontierSize;
+            } else {
+                bottomUp = mode == ExpansionMode.BOTTOM_UP;
+            }
+
+            if (bottomUp) {
+                claimBottomUp(graph, depth);
+                bottomUpLevels++;
+            } else {
+                claimTopDown(graph, frontierSize);
+                topDownLevels++;
+            }
+            int nextSize = collect(graph, depth, frontierSize);
+
+            int[] swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+            frontierSize = nextSize;
+            unvisited -= nextSize;
+        }
+    }
+
+    /**
+     * Reclamo top-down: cada entrada i de la frontera propone la clave i * 4 + dirección
+     * a sus vecinos sin visitar; el CAS conserva la clave mínima
+     */
+    private void claimTopDown(GridGraph graph, int frontierSize) {
+        forRange(frontierSize, (from, to) -> {
+            int[] neighbors = new int[4];
+            for (int i = from; i < to; i++) {
+                int count = neighborsWithDirections(graph, frontier[i], neighbors);
+                for (int k = 0; k < count; k++) {
+                    int neighbor = neighbors[k] >>> 2;
+                    if (level[neighbor] < 0) {
+                        claimMin(neighbor, i * 4 + (neighbors[k] & 3));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Reclamo bottom-up: cada celda libre sin visitar elige entre sus vecinos del nivel depth
+     * el de clave mínima; solo escribe su propia entrada, así que no necesita CAS
+     */
+    private void claimBottomUp(GridGraph graph, int depth) {
+        forRange(graph.getCellCount(), (from, to) -> {
+            for (int cell = from; cell < to; cell++) {
+                if (level[cell] >= 0 || !graph.isPassable(cell)) {
+                    continue;
+                }
+                int row = cell / cols;
+                int col = cell - row * cols;
+                int best = NO_CLAIM;
+                // La dirección se mide desde el vecino hacia cell: arriba=0, abajo=1, izquierda=2, derecha=3
+                if (row > 0 && level[cell - cols] == depth) {
+                    best = Math.min(best, position[cell - cols] * 4 + 1);
+                }
+                if (row < rows - 1 && level[cell + cols] == depth) {
+                    best = Math.min(best, position[cell + cols] * 4);
+                }
+                if (col > 0 && level[cell - 1] == depth) {
+                    best = Math.min(best, position[cell - 1] * 4 + 3);
+                }
+                if (col < cols - 1 && level[cell + 1] == depth) {
+                    best = Math.min(best, position[cell + 1] * 4 + 2);
+                }
+                if (best != NO_CLAIM) {
+                    owner[cell] = best;
+                }
+            }
+        });
+    }
+
+    /**
+     * Recolección: arma la siguiente frontera en el orden de las claves ganadoras
+     * Primero cuenta las celdas ganadas por bloque, luego calcula los desplazamientos
+     * y finalmente cada bloque escribe las suyas (nivel, padre y posición)
+     * @return tamaño de la siguiente frontera
+     */
+    private int collect(GridGraph graph, int depth, int frontierSize) {
+        int chunks = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        forChunks(chunks, chunk -> {
+            int[] neighbors = new int[4];
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(frontierSize, from + CHUNK_SIZE);
+            int won = 0;
+            for (int i = from; i < to; i++) {
+                int count = neighborsWithDirections(graph, frontier[i], neighbors);
+                for (int k = 0; k < count; k++) {
+                    if (owner[neighbors[k] >>> 2] == i * 4 + (neighbors[k] & 3)) {
+                        won++;
+                    }
+                }
+            }
+            chunkCounts[chunk] = won;
+        });
+
+        int total = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int won = chunkCounts[chunk];
+            chunkCounts[chunk] = total;
+            total += won;
+        }
+
+        forChunks(chunks, chunk -> {
+            int[] neighbors = new int[4];
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(frontierSize, from + CHUNK_SIZE);
+            int next = chunkCounts[chunk];
+            for (int i = from; i < to; i++) {
+                int count = neighborsWithDirections(graph, frontier[i], neighbors);
+                for (int k = 0; k < count; k++) {
+                    int neighbor = neighbors[k] >>> 2;
+                    if (owner[neighbor] == i * 4 + (neighbors[k] & 3)) {
+                        level[neighbor] = depth + 1;
+                        parent[neighbor] = frontier[i];
+                        position[neighbor] = next;
+                        nextFrontier[next++] = neighbor;
+                    }
+                }
+            }
+        });
+        return total;
+    }
+
+    /**
+     * Vecinos libres en el orden de findPathBFS (arriba, abajo, izquierda, derecha),
+     * codificados como id * 4 + dirección
+     * @return cantidad de vecinos escritos en out
+     */
+    private int neighborsWithDirections(GridGraph graph, int cell, int[] out) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        int count = 0;
+        if (row > 0 && graph.isPassable(cell - cols)) {
+            out[count++] = (cell - cols) << 2;
+        }
+        if (row < rows - 1 && graph.isPassable(cell + cols)) {
+            out[count++] = ((cell + cols) << 2) | 1;
+        }
+        if (col > 0 && graph.isPassable(cell - 1)) {
+            out[count++] = ((cell - 1) << 2) | 2;
+        }
+        if (col < cols - 1 && graph.isPassable(cell + 1)) {
+            out[count++] = ((cell + 1) << 2) | 3;
+        }
+        return count;
+    }
+
+    /**
+     * Guarda key en owner[cell] si es menor que la clave actual (CAS en bucle)
+     */
+    private void claimMin(int cell, int key) {
+        int current = (int) INT_ARRAY.getVolatile(owner, cell);
+        while (key < current) {
+            int witness = (int) INT_ARRAY.compareAndExchange(owner, cell, current, key);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Cuerpo de una tarea sobre el rango [from, to)
+     */
+    private interface RangeBody {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Ejecuta body sobre [0, size): en el hilo actual si el rango es pequeño, o dividido en el pool
+     */
+    private void forRange(int size, RangeBody body) {
+        if (size < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            body.apply(0, size);
+        } else {
+            pool.invoke(new RangeTask(body, 0, size));
+        }
+    }
+
+    /**
+     * Ejecuta body para cada bloque en [0, chunks), repartiendo los bloques en el pool
+     */
+    private void forChunks(int chunks, IntConsumer body) {
+        forRange(chunks * CHUNK_SIZE, (from, to) -> {
+            for (int chunk = from / CHUNK_SIZE; chunk * CHUNK_SIZE < to; chunk++) {
+                body.accept(chunk);
+            }
+        });
+    }
+
+    /**
+     * Tarea fork/join que divide el rango por la mitad hasta PARALLEL_THRESHOLD
+     * Los cortes caen en múltiplos de CHUNK_SIZE para que cada bloque quede en una sola tarea
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeBody body;
+        private final int from;
+        private final int to;
+
+        RangeTask(RangeBody body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                body.apply(from, to);
+                return;
+            }
+            int middle = from + ((to - from) / 2 / CHUNK_SIZE) * CHUNK_SIZE;
+            invokeAll(new RangeTask(body, from, middle), new RangeTask(body, middle, to));
+        }
+    }
+
+    /**
+     * Avisa que la matriz se editó: vuelve a copiar la transitabilidad al grafo
+     * y la próxima consulta recalcula el índice de componentes
+     * Complejidad: O(rows * cols)
+     */
+    public void invalidate() {
+        componentIndex.invalidate();
+        graph.refresh();
+    }
+
+    /**
+     * Imprime la matriz con la ruta marcada
+     */
+    public void printMatrixWithPath(List<Point> path) {
+        GridPrinter.printMatrixWithPath(matrix, path);
+    }
+}
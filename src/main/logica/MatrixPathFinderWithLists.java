@@ -4,6 +4,7 @@ import java.util.*;
  * Clase para buscar rutas en una matriz integrando listas simples y dobles
  * - Lista Simple: Registra secuencialmente las celdas visitadas durante la búsqueda
  * - Lista Doble: Almacena múltiples rutas encontradas para navegación bidireccional
+ * Si la matriz se edita después de la primera consulta, hay que llamar a invalidate()
  */
 public class MatrixPathFinderWithLists {
     private char[][] matrix;
@@ -13,6 +14,12 @@ public class MatrixPathFinderWithLists {
     // Direcciones: arriba, abajo, izquierda, derecha
     private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
     
+    // Espacio de trabajo reutilizado entre consultas (visitados con sello de generación + padres)
+    private SearchWorkspace workspace;
+    
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    
     // Lista simple: historial de celdas visitadas (secuencial)
     private SinglyLinkedList<Point> visitHistory;
     
@@ -23,6 +30,7 @@ public class MatrixPathFinderWithLists {
         this.matrix = matrix;
         this.rows = matrix.length;
         this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
         this.visitHistory = new SinglyLinkedList<>();
         this.foundPaths = new DoublyLinkedList<>();
     }
@@ -33,19 +41,22 @@ public class MatrixPathFinderWithLists {
      */
     public List<Point> findPathDFS(Point start, Point end) {
         visitHistory.clear();
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
         StackManual<Point> stack = new StackManual<>();
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         stack.push(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         visitHistory.addLast(start); // Registrar visita en lista simple
         
         while (!stack.isEmpty()) {
             Point current = stack.pop();
             
             if (current.equals(end)) {
-                List<Point> path = reconstructPath(parent, start, end);
+                List<Point> path = workspace.pathTo(end.row * cols + end.col, cols);
                 foundPaths.addLast(path); // Agregar ruta a lista doble
                 return path;
             }
@@ -55,11 +66,10 @@ public class MatrixPathFinderWithLists {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     stack.push(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                     visitHistory.addLast(neighbor); // Registrar cada visita en lista simple
                 }
             }
@@ -74,19 +84,22 @@ public class MatrixPathFinderWithLists {
      */
     public List<Point> findPathBFS(Point start, Point end) {
         visitHistory.clear();
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
         QueueManual<Point> queue = new QueueManual<>();
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         queue.enqueue(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         visitHistory.addLast(start); // Registrar visita en lista simple
         
         while (!queue.isEmpty()) {
             Point current = queue.dequeue();
             
             if (current.equals(end)) {
-                List<Point> path = reconstructPath(parent, start, end);
+                List<Point> path = workspace.pathTo(end.row * cols + end.col, cols);
                 foundPaths.addLast(path); // Agregar ruta a lista doble
                 return path;
             }
@@ -96,11 +109,10 @@ public class MatrixPathFinderWithLists {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     queue.enqueue(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                     visitHistory.addLast(neighbor); // Registrar cada visita en lista simple
                 }
             }
@@ -163,6 +175,16 @@ public class MatrixPathFinderWithLists {
         return currentNode.getPrev().getData();
     }
     
+    /**
+     * Retorna el espacio de trabajo del buscador, creándolo en la primera consulta
+     */
+    private SearchWorkspace workspace() {
+        if (workspace == null) {
+            workspace = new SearchWorkspace(rows * cols);
+        }
+        return workspace;
+    }
+    
     /**
      * Verifica si las coordenadas son válidas
      */
@@ -171,19 +193,10 @@ public class MatrixPathFinderWithLists {
     }
     
     /**
-     * Reconstruye la ruta desde el punto de inicio hasta el final
+     * Avisa que la matriz se editó: la próxima consulta recalcula el índice de componentes
      */
-    private List<Point> reconstructPath(Point[][] parent, Point start, Point end) {
-        List<Point> path = new ArrayList<>();
-        Point current = end;
-        
-        while (current != null) {
-            path.add(current);
-            current = parent[current.row][current.col];
-        }
-        
-        Collections.reverse(path);
-        return path;
+    public void invalidate() {
+        componentIndex.invalidate();
     }
     
     /**
@@ -221,11 +234,14 @@ public class MatrixPathFinderWithLists {
         System.out.println("Total de celdas visitadas: " + visitHistory.size());
         System.out.print("Orden: ");
         
-        for (int i = 0; i < visitHistory.size(); i++) {
-            System.out.print(visitHistory.get(i));
-            if (i < visitHistory.size() - 1) {
+        // Un solo recorrido con el iterador: get(i) en el ciclo costaba O(n²)
+        boolean first = true;
+        for (Point cell : visitHistory) {
+            if (!first) {
                 System.out.print(" -> ");
             }
+            System.out.print(cell);
+            first = false;
         }
         System.out.println();
     }
@@ -4,6 +4,7 @@ import java.util.*;
  * Clase para buscar rutas en una matriz usando LinkedList nativa de Java
  * - LinkedList<Point>: Historial de visitas (equivalente a lista simple)
  * - LinkedList<List<Point>>: Múltiples rutas encontradas (equivalente a lista doble)
+ * Si la matriz se edita después de la primera consulta, hay que llamar a invalidate()
  */
 public class MatrixPathFinderWithNativeLists {
     private char[][] matrix;
@@ -13,6 +14,12 @@ public class MatrixPathFinderWithNativeLists {
     // Direcciones: arriba, abajo, izquierda, derecha
     private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
     
+    // Espacio de trabajo reutilizado entre consultas (visitados con sello de generación + padres)
+    private SearchWorkspace workspace;
+    
+    // Índice de componentes: instantánea de la matriz hasta el próximo invalidate()
+    private final GridComponentIndex componentIndex;
+    
     // LinkedList nativa: historial de celdas visitadas
     private LinkedList<Point> visitHistory;
     
@@ -23,6 +30,7 @@ public class MatrixPathFinderWithNativeLists {
         this.matrix = matrix;
         this.rows = matrix.length;
         this.cols = matrix[0].length;
+        this.componentIndex = new GridComponentIndex(matrix);
         this.visitHistory = new LinkedList<>();
         this.foundPaths = new LinkedList<>();
     }
@@ -33,19 +41,22 @@ public class MatrixPathFinderWithNativeLists {
      */
     public List<Point> findPathDFS(Point start, Point end) {
         visitHistory.clear();
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
         java.util.Stack<Point> stack = new java.util.Stack<>();
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         stack.push(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         visitHistory.addLast(start); // addLast = O(1) en LinkedList
         
         while (!stack.isEmpty()) {
             Point current = stack.pop();
             
             if (current.equals(end)) {
-                List<Point> path = reconstructPath(parent, start, end);
+                List<Point> path = workspace.pathTo(end.row * cols + end.col, cols);
                 foundPaths.addLast(path); // Agregar ruta a lista doble nativa
                 return path;
             }
@@ -55,11 +66,10 @@ public class MatrixPathFinderWithNativeLists {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     stack.push(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                     visitHistory.addLast(neighbor); // addLast = O(1)
                 }
             }
@@ -74,19 +84,22 @@ public class MatrixPathFinderWithNativeLists {
      */
     public List<Point> findPathBFS(Point start, Point end) {
         visitHistory.clear();
+        if (!componentIndex.canReach(start, end)) {
+            return new ArrayList<>();
+        }
         Queue<Point> queue = new LinkedList<>();
-        boolean[][] visited = new boolean[rows][cols];
-        Point[][] parent = new Point[rows][cols];
+        SearchWorkspace workspace = workspace();
+        workspace.beginQuery();
         
         queue.offer(start);
-        visited[start.row][start.col] = true;
+        workspace.visit(start.row * cols + start.col, -1);
         visitHistory.addLast(start); // addLast = O(1) en LinkedList
         
         while (!queue.isEmpty()) {
             Point current = queue.poll();
             
             if (current.equals(end)) {
-                List<Point> path = reconstructPath(parent, start, end);
+                List<Point> path = workspace.pathTo(end.row * cols + end.col, cols);
                 foundPaths.addLast(path); // Agregar ruta a lista doble nativa
                 return path;
             }
@@ -96,11 +109,10 @@ public class MatrixPathFinderWithNativeLists {
                 int newRow = current.row + dir[0];
                 int newCol = current.col + dir[1];
                 
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && matrix[newRow][newCol] != '#') {
+                if (isValid(newRow, newCol) && !workspace.isVisited(newRow * cols + newCol) && matrix[newRow][newCol] != '#') {
                     Point neighbor = new Point(newRow, newCol);
                     queue.offer(neighbor);
-                    visited[newRow][newCol] = true;
-                    parent[newRow][newCol] = current;
+                    workspace.visit(newRow * cols + newCol, current.row * cols + current.col);
                     visitHistory.addLast(neighbor); // addLast = O(1)
                 }
             }
@@ -163,6 +175,16 @@ public class MatrixPathFinderWithNativeLists {
         return null;
     }
     
+    /**
+     * Retorna el espacio de trabajo del buscador, creándolo en la primera consulta
+     */
+    private SearchWorkspace workspace() {
+        if (workspace == null) {
+            workspace = new SearchWorkspace(rows * cols);
+        }
+        return workspace;
+    }
+    
     /**
      * Verifica si las coordenadas son válidas
      */
@@ -171,19 +193,10 @@ public class MatrixPathFinderWithNativeLists {
     }
     
     /**
-     * Reconstruye la ruta desde el punto de inicio hasta el final
+     * Avisa que la matriz se editó: la próxima consulta recalcula el índice de componentes
      */
-    private List<Point> reconstructPath(Point[][] parent, Point start, Point end) {
-        List<Point> path = new ArrayList<>();
-        Point current = end;
-        
-        while (current != null) {
-            path.add(current);
-            current = parent[current.row][current.col];
-        }
-        
-        Collections.reverse(path);
-        return path;
+    public void invalidate() {
+        componentIndex.invalidate();
     }
     
     /**
@@ -0,0 +1,274 @@
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Relleno por inundación (DFS) paralelo sobre la matriz char[][] con robo de trabajo
+ * - Cada hilo trabajador tiene su WorkStealingDeque (Chase-Lev): expande en orden DFS desde
+ *   su propio extremo y, cuando se queda sin trabajo, roba las celdas más antiguas de otro
+ * - Las celdas visitadas se marcan en un bitset atómico (AtomicLongArray): la celda la reclama
+ *   el hilo cuyo CAS pone el bit, así cada celda se expande exactamente una vez
+ * - Terminación: cuando todos los hilos están ociosos no queda trabajo en ningún deque
+ * Misma semántica que MatrixPathFinder.findPathDFS: '#' es obstáculo y un inicio sobre '#'
+ * se expande hacia sus vecinos libres
+ * Para muchas consultas sobre una matriz fija, GridComponentIndex responde en O(1);
+ * este motor sirve para consultas únicas, matrices que cambian o para enumerar las celdas
+ */
+public class ParallelReachability {
+    private char[][] matrix;
+    private int rows;
+    private int cols;
+    private final int parallelism;
+
+    // Resultado de la última consulta
+    private AtomicLongArray visited;
+    private long visitedCount;
+    private long elapsedNanos;
+
+    /**
+     * Constructor: usa un hilo por procesador disponible
+     */
+    public ParallelReachability(char[][] matrix) {
+        this(matrix, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor con número de hilos explícito
+     * Precondición: parallelism >= 1
+     */
+    public ParallelReachability(char[][] matrix, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo: " + parallelism);
+        }
+        this.matrix = matrix;
+        this.rows = matrix.length;
+        this.cols = matrix[0].length;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Indica si end es alcanzable desde start; los hilos se detienen en cuanto alguno reclama end
+     */
+    public boolean isReachable(Point start, Point end) {
+        if (start.equals(end)) {
+            return true;
+        }
+        if (matrix[end.row][end.col] == '#') {
+            return false;
+        }
+        return explore(start, end.row * cols + end.col);
+    }
+
+    /**
+     * Cuenta todas las celdas alcanzables desde start (incluido start)
+     */
+    public long countReachable(Point start) {
+        explore(start, -1);
+        return visitedCount;
+    }
+
+    /**
+     * Retorna el conjunto de celdas alcanzables desde start como bitset de ids (row * cols + col)
+     */
+    public BitSet reachableCells(Point start) {
+        explore(start, -1);
+        long[] words = new long[visited.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = visited.get(i);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Retorna el número de celdas reclamadas en la última consulta
+     */
+    public long getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Retorna la duración de la última consulta en nanosegundos
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Recorre en paralelo desde start
+     * @param target id de la celda buscada, o -1 para recorrer toda la región
+     * @return true si se reclamó target
+     */
+    private boolean explore(Point start, int target) {
+        long startTime = System.nanoTime();
+        long cellCount = (long) rows * cols;
+        visited = new AtomicLongArray((int) ((cellCount + 63) >>> 6));
+
+        WorkStealingDeque[] deques = new WorkStealingDeque[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            deques[i] = new WorkStealingDeque();
+        }
+        int startId = start.row * cols + start.col;
+        claim(startId);
+        deques[0].push(startId);
+
+        AtomicInteger idleWorkers = new AtomicInteger(0);
+        AtomicBoolean found = new AtomicBoolean(startId == target);
+        long[] claimedPerWorker = new long[parallelism];
+        claimedPerWorker[0] = 1;
+
+        Thread[] workers = new Thread[parallelism];
+        for (int w = 0; w < parallelism; w++) {
+            final int workerId = w;
+            workers[w] = new Thread(() ->
+                claimedPerWorker[workerId] += runWorker(workerId, deques, idleWorkers, found, target));
+        }
+        for (int w = 1; w < parallelism; w++) {
+            workers[w].start();
+        }
+        workers[0].run(); // El hilo que consulta trabaja como trabajador 0
+        for (int w = 1; w < parallelism; w++) {
+            try {
+                workers[w].join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        visitedCount = 0;
+        for (long claimed : claimedPerWorker) {
+            visitedCount += claimed;
+        }
+        elapsedNanos = System.nanoTime() - startTime;
+        return found.get();
+    }
+
+    /**
+     * Bucle de un trabajador: vacía su deque en orden DFS y roba cuando se queda sin trabajo
+     * @return número de celdas que reclamó este trabajador
+     */
+    private long runWorker(int workerId, WorkStealingDeque[] deques, AtomicInteger idleWorkers,
+                           AtomicBoolean found, int target) {
+        WorkStealingDeque own = deques[workerId];
+        long claimed = 0;
+
+        while (!found.get()) {
+            int cell = own.pop();
+            if (cell == WorkStealingDeque.EMPTY) {
+                cell = stealOrTerminate(workerId, deques, idleWorkers, found);
+                if (cell == WorkStealingDeque.EMPTY) {
+                    break; // Todos ociosos: no queda trabajo
+                }
+            }
+
+            int row = cell / cols;
+            int col = cell - row * cols;
+            // Explorar vecinos: arriba, abajo, izquierda, derecha
+            if (row > 0 && matrix[row - 1][col] != '#' && claim(cell - cols)) {
+                own.push(cell - cols);
+                claimed++;
+            }
+            if (row < rows - 1 && matrix[row + 1][col] != '#' && claim(cell + cols)) {
+                own.push(cell + cols);
+                claimed++;
+            }
+            if (col > 0 && matrix[row][col - 1] != '#' && claim(cell - 1)) {
+                own.push(cell - 1);
+                claimed++;
+            }
+            if (col < cols - 1 && matrix[row][col + 1] != '#' && claim(cell + 1)) {
+                own.push(cell + 1);
+                claimed++;
+            }
+            if (target >= 0 && isClaimed(target)) {
+                found.set(true);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Intenta robar de otros trabajadores; si no hay trabajo en ningún deque se declara ocioso
+     * Un trabajador solo queda ocioso con su propio deque vacío, así que cuando todos están
+     * ociosos nadie puede generar más trabajo y el recorrido terminó
+     * @return celda robada, o EMPTY si el recorrido terminó
+     */
+    private int stealOrTerminate(int workerId, WorkStealingDeque[] deques, AtomicInteger idleWorkers,
+                                 AtomicBoolean found) {
+        int stolen = trySteal(workerId, deques);
+        if (stolen != WorkStealingDeque.EMPTY) {
+            return stolen;
+        }
+
+        idleWorkers.incrementAndGet();
+        while (!found.get()) {
+            if (idleWorkers.get() == parallelism) {
+                return WorkStealingDeque.EMPTY;
+            }
+            if (hasVisibleWork(deques)) {
+                // Hay trabajo: volver a contar como activo antes de robar, para que nadie termine antes de tiempo
+                idleWorkers.decrementAndGet();
+                stolen = trySteal(workerId, deques);
+                if (stolen != WorkStealingDeque.EMPTY) {
+                    return stolen;
+                }
+                idleWorkers.incrementAndGet();
+            }
+            Thread.yield(); // Ceder el procesador: con más hilos que núcleos el ocioso no debe frenar al activo
+        }
+        return WorkStealingDeque.EMPTY;
+    }
+
+    /**
+     * Un intento de robo en cada deque, empezando por una víctima al azar
+     */
+    private int trySteal(int workerId, WorkStealingDeque[] deques) {
+        int offset = ThreadLocalRandom.current().nextInt(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            int victim = (offset + i) % parallelism;
+            if (victim == workerId) {
+                continue;
+            }
+            int cell = deques[victim].steal();
+            if (cell != WorkStealingDeque.EMPTY) {
+                return cell;
+            }
+        }
+        return WorkStealingDeque.EMPTY;
+    }
+
+    private boolean hasVisibleWork(WorkStealingDeque[] deques) {
+        for (WorkStealingDeque deque : deques) {
+            if (!deque.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reclama la celda poniendo su bit con CAS
+     * @return true solo para el hilo que puso el bit
+     */
+    private boolean claim(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << (cell & 63);
+        while (true) {
+            long current = visited.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isClaimed(int cell) {
+        return (visited.get(cell >>> 6) & (1L << (cell & 63))) != 0;
+    }
+}
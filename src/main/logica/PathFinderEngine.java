@@ -0,0 +1,13 @@
+import java.util.List;
+
+/**
+ * Contrato común de los motores de búsqueda de rutas seleccionables
+ * Todos reciben la misma matriz char[][] en su constructor ('#' = obstáculo)
+ * y retornan la ruta desde start hasta end, o lista vacía si no existe
+ *
+ * Ejemplo de selección: PathFinderEngine engine = new MatrixPathFinder(matrix)::findPathBFS;
+ *                       PathFinderEngine engine = new MatrixPathFinderJPS(matrix);
+ */
+public interface PathFinderEngine {
+    List<Point> findPath(Point start, Point end);
+}
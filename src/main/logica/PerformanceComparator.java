@@ -1,4 +1,10 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Clase para comparar el rendimiento entre implementación manual y nativa
@@ -7,11 +13,11 @@ import java.util.*;
 public class PerformanceComparator {
     
     /**
-     * Compara el rendimiento de StackManual vs ArrayDeque como pila
+     * Compara el rendimiento de StackManual (nodos) vs ArrayStackManual (arreglo) vs ArrayDeque como pila
      */
     public void compareStackPerformance() {
         System.out.println("=== COMPARACIÓN DE RENDIMIENTO: PILA ===");
-        System.out.println("StackManual vs ArrayDeque (como pila)");
+        System.out.println("StackManual vs ArrayStackManual vs ArrayDeque (como pila)");
         System.out.println();
         
         int[] testSizes = {1000, 10000, 100000};
@@ -30,6 +36,28 @@ public class PerformanceComparator {
             }
             long manualTime = System.nanoTime() - startTime;
             
+            // Test ArrayStackManual (arreglo con crecimiento geométrico y reducción con histéresis)
+            startTime = System.nanoTime();
+            ArrayStackManual<Integer> arrayStack = new ArrayStackManual<>();
+            for (int i = 0; i < size; i++) {
+                arrayStack.push(i);
+            }
+            for (int i = 0; i < size; i++) {
+                arrayStack.pop();
+            }
+            long arrayTime = System.nanoTime() - startTime;
+            
+            // Test ArrayStackManual con capacidad preasignada (sin copias al crecer)
+            startTime = System.nanoTime();
+            ArrayStackManual<Integer> presizedStack = new ArrayStackManual<>(size);
+            for (int i = 0; i < size; i++) {
+                presizedStack.push(i);
+            }
+            for (int i = 0; i < size; i++) {
+                presizedStack.pop();
+            }
+            long presizedTime = System.nanoTime() - startTime;
+            
             // Test ArrayDeque como pila
             startTime = System.nanoTime();
             Deque<Integer> nativeStack = new ArrayDeque<>();
@@ -41,12 +69,16 @@ public class PerformanceComparator {
             }
             long nativeTime = System.nanoTime() - startTime;
             
-            System.out.printf("  StackManual:  %8.2f ms%n", manualTime / 1_000_000.0);
-            System.out.printf("  ArrayDeque:   %8.2f ms%n", nativeTime / 1_000_000.0);
-            System.out.printf("  Diferencia:   %8.2f ms (%.1f%% %s)%n", 
+            System.out.printf("  %-29s %8.2f ms%n", "StackManual:", manualTime / 1_000_000.0);
+            System.out.printf("  %-29s %8.2f ms%n", "ArrayStackManual:", arrayTime / 1_000_000.0);
+            System.out.printf("  %-29s %8.2f ms%n", "ArrayStackManual (con hint):", presizedTime / 1_000_000.0);
+            System.out.printf("  %-29s %8.2f ms%n", "ArrayDeque:", nativeTime / 1_000_000.0);
+            System.out.printf("  %-29s %8.2f ms (%.1f%% %s)%n", "Diferencia StackManual:",
                 Math.abs(manualTime - nativeTime) / 1_000_000.0,
                 Math.abs(manualTime - nativeTime) * 100.0 / Math.max(manualTime, nativeTime),
                 manualTime < nativeTime ? "más rápido manual" : "más rápido nativo");
+            System.out.printf("  %-29s %8.1fx%n", "ArrayStackManual vs nodos:",
+                (double) manualTime / Math.max(arrayTime, 1));
             System.out.println();
         }
     }
@@ -75,6 +107,18 @@ public class PerformanceComparator {
             }
             long manualTime = System.nanoTime() - startTime;
             
+            // Test QueueManual con operaciones masivas (enqueueAll crece una sola vez, drainTo vacía en un paso)
+            List<String> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add("item" + i);
+            }
+            List<String> drained = new ArrayList<>(size);
+            startTime = System.nanoTime();
+            QueueManual<String> bulkQueue = new QueueManual<>();
+            bulkQueue.enqueueAll(batch);
+            bulkQueue.drainTo(drained);
+            long bulkTime = System.nanoTime() - startTime;
+            
             // Test ArrayDeque como cola
             startTime = System.nanoTime();
             Queue<String> nativeQueue = new ArrayDeque<>();
@@ -87,6 +131,7 @@ public class PerformanceComparator {
             long nativeTime = System.nanoTime() - startTime;
             
             System.out.printf("  QueueManual:  %8.2f ms%n", manualTime / 1_000_000.0);
+            System.out.printf("  QueueManual (enqueueAll/drainTo, sin crear cadenas): %8.2f ms%n", bulkTime / 1_000_000.0);
             System.out.printf("  ArrayDeque:   %8.2f ms%n", nativeTime / 1_000_000.0);
             System.out.printf("  Diferencia:   %8.2f ms (%.1f%% %s)%n", 
                 Math.abs(manualTime - nativeTime) / 1_000_000.0,
@@ -96,6 +141,111 @@ public class PerformanceComparator {
         }
     }
     
+    /**
+     * Compara las versiones genéricas (con boxing a Integer) contra las primitivas IntStackManual
+     * e IntQueueManual, con cargas de enteros como las de los buscadores (ids de celda)
+     */
+    public void comparePrimitiveStructures() {
+        System.out.println("=== COMPARACIÓN: ESTRUCTURAS GENÉRICAS vs PRIMITIVAS (int) ===");
+        System.out.println("StackManual<Integer> / QueueManual<Integer> / ArrayDeque<Integer> vs IntStackManual / IntQueueManual");
+        System.out.println();
+        
+        int[] testSizes = {100000, 1000000};
+        int iterations = 5; // Número de iteraciones para promediar
+        
+        for (int size : testSizes) {
+            System.out.println("Probando con " + size + " elementos (promedio de " + iterations + "):");
+            
+            // Pilas: push de todos los elementos y luego pop de todos
+            long[] stackTimes = new long[3];
+            for (int round = 0; round <= iterations; round++) { // La ronda 0 es calentamiento
+                long startTime = System.nanoTime();
+                StackManual<Integer> manualStack = new StackManual<>();
+                for (int i = 0; i < size; i++) {
+                    manualStack.push(i);
+                }
+                while (!manualStack.isEmpty()) {
+                    manualStack.pop();
+                }
+                long manualTime = System.nanoTime() - startTime;
+                
+                startTime = System.nanoTime();
+                Deque<Integer> nativeStack = new ArrayDeque<>();
+                for (int i = 0; i < size; i++) {
+                    nativeStack.push(i);
+                }
+                while (!nativeStack.isEmpty()) {
+                    nativeStack.pop();
+                }
+                long nativeTime = System.nanoTime() - startTime;
+                
+                startTime = System.nanoTime();
+                IntStackManual intStack = new IntStackManual();
+                for (int i = 0; i < size; i++) {
+                    intStack.push(i);
+                }
+                while (!intStack.isEmpty()) {
+                    intStack.pop();
+                }
+                long intTime = System.nanoTime() - startTime;
+                
+                if (round > 0) {
+                    stackTimes[0] += manualTime;
+                    stackTimes[1] += nativeTime;
+                    stackTimes[2] += intTime;
+                }
+            }
+            
+            // Colas: enqueue de todos los elementos y luego dequeue de todos
+            long[] queueTimes = new long[3];
+            for (int round = 0; round <= iterations; round++) {
+                long startTime = System.nanoTime();
+                QueueManual<Integer> manualQueue = new QueueManual<>();
+                for (int i = 0; i < size; i++) {
+                    manualQueue.enqueue(i);
+                }
+                while (!manualQueue.isEmpty()) {
+                    manualQueue.dequeue();
+                }
+                long manualTime = System.nanoTime() - startTime;
+                
+                startTime = System.nanoTime();
+                Queue<Integer> nativeQueue = new ArrayDeque<>();
+                for (int i = 0; i < size; i++) {
+                    nativeQueue.offer(i);
+                }
+                while (!nativeQueue.isEmpty()) {
+                    nativeQueue.poll();
+                }
+                long nativeTime = System.nanoTime() - startTime;
+                
+                startTime = System.nanoTime();
+                IntQueueManual intQueue = new IntQueueManual();
+                for (int i = 0; i < size; i++) {
+                    intQueue.enqueue(i);
+                }
+                while (!intQueue.isEmpty()) {
+                    intQueue.dequeue();
+                }
+                long intTime = System.nanoTime() - startTime;
+                
+                if (round > 0) {
+                    queueTimes[0] += manualTime;
+                    queueTimes[1] += nativeTime;
+                    queueTimes[2] += intTime;
+                }
+            }
+            
+            System.out.printf("  StackManual<Integer>:  %8.2f ms%n", stackTimes[0] / iterations / 1_000_000.0);
+            System.out.printf("  ArrayDeque (pila):     %8.2f ms%n", stackTimes[1] / iterations / 1_000_000.0);
+            System.out.printf("  IntStackManual:        %8.2f ms%n", stackTimes[2] / iterations / 1_000_000.0);
+            System.out.printf("  QueueManual<Integer>:  %8.2f ms%n", queueTimes[0] / iterations / 1_000_000.0);
+            System.out.printf("  ArrayDeque (cola):     %8.2f ms%n", queueTimes[1] / iterations / 1_000_000.0);
+            System.out.printf("  IntQueueManual:        %8.2f ms%n", queueTimes[2] / iterations / 1_000_000.0);
+            System.out.println();
+        }
+    }
+    
     /**
      * Compara el rendimiento de búsqueda de rutas entre implementación manual y nativa
      */
@@ -166,6 +316,619 @@ public class PerformanceComparator {
         System.out.println();
     }
     
+    /**
+     * Compara los motores de búsqueda seleccionables: BFS (Point y GridGraph), A* y Jump Point Search
+     * sobre las matrices generadas por createTestMatrix
+     */
+    public void compareSearchEngines() {
+        System.out.println("=== COMPARACIÓN DE MOTORES: BFS vs A* vs JPS ===");
+        System.out.println("Matrices aleatorias (20% obstáculos), de (0,0) a la esquina opuesta");
+        System.out.println();
+        
+        int[] testSizes = {100, 500, 1000};
+        int iterations = 5; // Número de iteraciones para promediar
+        
+        for (int size : testSizes) {
+            char[][] matrix = createTestMatrix(size, size);
+            Point start = new Point(0, 0);
+            Point end = new Point(size - 1, size - 1);
+            
+            MatrixPathFinderAStar aStar = new MatrixPathFinderAStar(matrix);
+            MatrixPathFinderJPS jps = new MatrixPathFinderJPS(matrix);
+            Map<String, PathFinderEngine> engines = new LinkedHashMap<>();
+            engines.put("BFS", new MatrixPathFinder(matrix)::findPathBFS);
+            engines.put("BFS-Grid", new MatrixPathFinderGrid(matrix));
+            engines.put("BFS-Paral.", new MatrixPathFinderParallel(matrix));
+            engines.put("BFS-Bitset", new MatrixPathFinderBitset(matrix));
+            engines.put("A*", aStar);
+            engines.put("JPS", jps);
+            
+            System.out.println("Matriz " + size + "x" + size + ":");
+            for (Map.Entry<String, PathFinderEngine> entry : engines.entrySet()) {
+                PathFinderEngine engine = entry.getValue();
+                List<Point> path = engine.findPath(start, end); // Calentamiento
+                
+                long totalTime = 0;
+                for (int i = 0; i < iterations; i++) {
+                    long startTime = System.nanoTime();
+                    path = engine.findPath(start, end);
+                    totalTime += System.nanoTime() - startTime;
+                }
+                
+                String expanded = "";
+                if (engine == aStar) {
+                    expanded = ", expandidas: " + aStar.getExpandedNodes();
+                } else if (engine == jps) {
+                    expanded = ", expandidas: " + jps.getExpandedNodes();
+                }
+                System.out.printf("  %-10s %8.2f ms (ruta: %d pasos%s)%n",
+                    entry.getKey() + ":", totalTime / iterations / 1_000_000.0, path.size(), expanded);
+            }
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Compara el campo de distancias BFS secuencial contra el BFS paralelo por niveles
+     * (expansión top-down y automática) y contra el kernel por bitsets, en un mapa grande y abierto
+     */
+    public void compareParallelBFS() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("=== CAMPO DE DISTANCIAS: BFS secuencial vs paralelo por niveles vs bitsets ===");
+        System.out.println("Mapa abierto (5% obstáculos), distancias desde el centro; "
+            + cores + " procesadores disponibles");
+        System.out.println();
+
+        int size = 2000;
+        int iterations = 3;
+        char[][] matrix = new char[size][size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                matrix[i][j] = random.nextDouble() < 0.05 ? '#' : '.';
+            }
+        }
+        Point center = new Point(size / 2, size / 2);
+        matrix[center.row][center.col] = '.';
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        MatrixPathFinderParallel sequential = new MatrixPathFinderParallel(matrix, singleThread);
+        sequential.setExpansionMode(MatrixPathFinderParallel.ExpansionMode.TOP_DOWN);
+        int[] expected = sequential.distancesFrom(center); // Calentamiento y referencia
+        double baseline = averageDistanceFieldMs(sequential, center, iterations);
+        System.out.printf("  %-26s %8.2f ms%n", "1 hilo (top-down):", baseline);
+
+        MatrixPathFinderParallel parallel = new MatrixPathFinderParallel(matrix);
+        // BOTTOM_UP forzado revisa todas las celdas en cada uno de los ~size niveles: no se mide aquí
+        for (MatrixPathFinderParallel.ExpansionMode mode : new MatrixPathFinderParallel.ExpansionMode[] {
+                MatrixPathFinderParallel.ExpansionMode.TOP_DOWN, MatrixPathFinderParallel.ExpansionMode.AUTO}) {
+            parallel.setExpansionMode(mode);
+            boolean same = Arrays.equals(expected, parallel.distancesFrom(center));
+            double time = averageDistanceFieldMs(parallel, center, iterations);
+            System.out.printf("  %-26s %8.2f ms (%.2fx, niveles top-down/bottom-up: %d/%d, %s)%n",
+                parallel.getParallelism() + " hilos (" + mode + "):", time, baseline / time,
+                parallel.getTopDownLevels(), parallel.getBottomUpLevels(),
+                same ? "mismas distancias" : "DISTANCIAS DISTINTAS");
+        }
+        singleThread.shutdown();
+
+        // Kernel por bitsets: 64 celdas por palabra, un solo hilo
+        MatrixPathFinderBitset bitset = new MatrixPathFinderBitset(matrix);
+        boolean same = Arrays.equals(expected, bitset.distancesFrom(center));
+        long totalTime = 0;
+        for (int i = 0; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            bitset.countReachable(center);
+            totalTime += System.nanoTime() - startTime;
+        }
+        double reachability = totalTime / iterations / 1_000_000.0;
+        double distances = averageBitsetDistanceFieldMs(bitset, center, iterations);
+        System.out.printf("  %-26s %8.2f ms (%.2fx, %s)%n", "Bitset, distancias:", distances,
+            baseline / distances, same ? "mismas distancias" : "DISTANCIAS DISTINTAS");
+        System.out.printf("  %-26s %8.2f ms (%.2fx, %d celdas)%n", "Bitset, alcanzabilidad:", reachability,
+            baseline / reachability, bitset.countReachable(center));
+        System.out.println();
+    }
+
+    /**
+     * Compara en matrices de 4000x4000 el BFS clásico (MatrixPathFinder.findPathBFS) contra
+     * el BFS por bitsets con núcleo escalar y con el mejor núcleo disponible (vectorial si
+     * se ejecuta con --add-modules jdk.incubator.vector)
+     */
+    public void compareVectorBFS() {
+        FrontierKernel best = FrontierKernel.best();
+        System.out.println("=== BFS POR BITSETS: núcleo escalar vs vectorial (SIMD) ===");
+        System.out.println("Mejor núcleo disponible: " + best.getName());
+        System.out.println();
+
+        int size = 4000;
+        int iterations = 3;
+        char[][] matrix = createTestMatrix(size, size);
+        Point start = new Point(0, 0);
+        Point end = new Point(size - 1, size - 1);
+        Point center = new Point(size / 2, size / 2);
+        matrix[center.row][center.col] = '.';
+
+        MatrixPathFinder classic = new MatrixPathFinder(matrix);
+        MatrixPathFinderBitset scalar = new MatrixPathFinderBitset(matrix, new ScalarFrontierKernel());
+        MatrixPathFinderBitset vector = new MatrixPathFinderBitset(matrix, best);
+        Map<String, PathFinderEngine> engines = new LinkedHashMap<>();
+        engines.put("BFS clásico", classic::findPathBFS);
+        engines.put("Bitset escalar", scalar);
+        if (best.getClass() != ScalarFrontierKernel.class) {
+            engines.put("Bitset vectorial", vector);
+        }
+
+        System.out.println("Ruta de esquina a esquina, " + size + "x" + size + " (20% obstáculos):");
+        for (Map.Entry<String, PathFinderEngine> entry : engines.entrySet()) {
+            PathFinderEngine engine = entry.getValue();
+            List<Point> path = engine.findPath(start, end); // Calentamiento
+            long totalTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long startTime = System.nanoTime();
+                path = engine.findPath(start, end);
+                totalTime += System.nanoTime() - startTime;
+            }
+            System.out.printf("  %-18s %9.2f ms (ruta: %d pasos)%n",
+                entry.getKey() + ":", totalTime / iterations / 1_000_000.0, path.size());
+        }
+        System.out.println();
+
+        int[] expected = scalar.distancesFrom(center);
+        System.out.println("Campo de distancias desde el centro, " + size + "x" + size + ":");
+        System.out.printf("  %-18s %9.2f ms%n", "Bitset escalar:",
+            averageBitsetDistanceFieldMs(scalar, center, iterations));
+        if (engines.containsKey("Bitset vectorial")) {
+            boolean same = Arrays.equals(expected, vector.distancesFrom(center));
+            System.out.printf("  %-18s %9.2f ms (%s)%n", "Bitset vectorial:",
+                averageBitsetDistanceFieldMs(vector, center, iterations),
+                same ? "mismas distancias" : "DISTANCIAS DISTINTAS");
+        } else {
+            System.out.println("  (sin Vector API: ejecutar con el perfil \"vector\" para medir el núcleo SIMD)");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Tiempo promedio de distancesFrom del kernel por bitsets en milisegundos
+     */
+    private double averageBitsetDistanceFieldMs(MatrixPathFinderBitset finder, Point start, int iterations) {
+        long totalTime = 0;
+        for (int i = 0; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            finder.distancesFrom(start);
+            totalTime += System.nanoTime() - startTime;
+        }
+        return totalTime / iterations / 1_000_000.0;
+    }
+
+    /**
+     * Tiempo promedio de distancesFrom en milisegundos
+     */
+    private double averageDistanceFieldMs(MatrixPathFinderParallel finder, Point start, int iterations) {
+        long totalTime = 0;
+        for (int i = 0; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            finder.distancesFrom(start);
+            totalTime += System.nanoTime() - startTime;
+        }
+        return totalTime / iterations / 1_000_000.0;
+    }
+
+    /**
+     * Compara resolver un lote de consultas una por una con MatrixPathFinder.findPathBFS
+     * contra BatchPathFinder, que comparte un BFS por cada inicio distinto
+     */
+    public void compareBatchQueries() {
+        System.out.println("=== LOTE DE CONSULTAS: findPathBFS por consulta vs un BFS por inicio ===");
+        System.out.println();
+
+        int size = 500;
+        int[][] batches = {{500, 10}, {500, 100}}; // {consultas, inicios distintos}
+        char[][] matrix = createTestMatrix(size, size);
+        MatrixPathFinder finder = new MatrixPathFinder(matrix);
+        BatchPathFinder batchFinder = new BatchPathFinder(matrix);
+
+        for (int[] batch : batches) {
+            int queryCount = batch[0];
+            int sourceCount = batch[1];
+            Random random = new Random(42);
+            Point[] sources = new Point[sourceCount];
+            for (int i = 0; i < sourceCount; i++) {
+                sources[i] = new Point(random.nextInt(size), random.nextInt(size));
+            }
+            List<BatchPathFinder.Query> queries = new ArrayList<>();
+            for (int i = 0; i < queryCount; i++) {
+                Point end = new Point(random.nextInt(size), random.nextInt(size));
+                queries.add(new BatchPathFinder.Query(sources[random.nextInt(sourceCount)], end));
+            }
+
+            batchFinder.findPaths(queries); // Calentamiento
+            long startTime = System.nanoTime();
+            List<List<Point>> batchResults = batchFinder.findPaths(queries);
+            double batchMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            startTime = System.nanoTime();
+            boolean same = true;
+            for (int i = 0; i < queryCount; i++) {
+                BatchPathFinder.Query query = queries.get(i);
+                same &= finder.findPathBFS(query.start, query.end).equals(batchResults.get(i));
+            }
+            double singleMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            System.out.println("Matriz " + size + "x" + size + ", " + queryCount + " consultas con "
+                + sourceCount + " inicios distintos:");
+            System.out.printf("  Una por una:  %9.2f ms (%d BFS)%n", singleMs, queryCount);
+            System.out.printf("  Por lote:     %9.2f ms (%d BFS, %d celdas expandidas, %.1fx)%n",
+                batchMs, batchFinder.getSearchCount(), batchFinder.getExpandedCells(), singleMs / batchMs);
+            System.out.println("  Rutas idénticas a findPathBFS: " + (same ? "sí" : "NO"));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Compara mover una multitud de agentes hacia 'E' con un BFS por agente
+     * (MatrixPathFinderNative.findPathBFS) contra un único DistanceField con campo de flujo
+     */
+    public void compareFlowField() {
+        System.out.println("=== MULTITUD HACIA 'E': BFS por agente vs campo de flujo ===");
+        System.out.println();
+
+        int size = 500;
+        int agentCount = 500;
+        char[][] matrix = createTestMatrix(size, size);
+        Point exit = new Point(size - 1, size - 1);
+        Random random = new Random(42);
+        List<Point> agents = new ArrayList<>();
+        while (agents.size() < agentCount) {
+            Point agent = new Point(random.nextInt(size), random.nextInt(size));
+            if (matrix[agent.row][agent.col] != '#') {
+                agents.add(agent);
+            }
+        }
+
+        MatrixPathFinderNative perAgent = new MatrixPathFinderNative(matrix);
+        long startTime = System.nanoTime();
+        long totalSteps = 0;
+        for (Point agent : agents) {
+            totalSteps += Math.max(0, perAgent.findPathBFS(agent, exit).size() - 1);
+        }
+        double perAgentMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        startTime = System.nanoTime();
+        DistanceField field = DistanceField.toMarkedCells(matrix, 'E');
+        double buildMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        // Simulación: cada agente avanza un paso por turno siguiendo el flujo hasta llegar
+        int[] positions = new int[agentCount];
+        for (int i = 0; i < agentCount; i++) {
+            positions[i] = agents.get(i).row * size + agents.get(i).col;
+        }
+        startTime = System.nanoTime();
+        long fieldSteps = 0;
+        boolean moving = true;
+        while (moving) {
+            moving = false;
+            for (int i = 0; i < agentCount; i++) {
+                int next = field.nextStep(positions[i]);
+                if (next >= 0 && next != positions[i]) {
+                    positions[i] = next;
+                    fieldSteps++;
+                    moving = true;
+                }
+            }
+        }
+        double stepMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        System.out.println("Matriz " + size + "x" + size + ", " + agentCount + " agentes:");
+        System.out.printf("  BFS por agente:   %9.2f ms (%d pasos en total)%n", perAgentMs, totalSteps);
+        System.out.printf("  Campo de flujo:   %9.2f ms construcción + %.2f ms moviendo (%d pasos en total)%n",
+            buildMs, stepMs, fieldSteps);
+        System.out.println("  Mismo total de pasos (rutas mínimas): " + (totalSteps == fieldSteps ? "sí" : "NO"));
+        System.out.println();
+    }
+
+    /**
+     * Compara replanificar con findPathBFS desde cero contra IncrementalPathPlanner (D* Lite)
+     * mientras un agente avanza por su ruta y aparecen obstáculos delante de él
+     */
+    public void compareIncrementalReplanning() {
+        System.out.println("=== REPLANIFICACIÓN: findPathBFS desde cero vs D* Lite incremental ===");
+        System.out.println("El agente avanza un paso por turno; cada turno aparece un obstáculo en su ruta");
+        System.out.println();
+
+        int size = 500;
+        int turns = 200;
+        char[][] matrix = createTestMatrix(size, size);
+        Point goal = new Point(size - 1, size - 1);
+        Point agent = new Point(0, 0);
+        IncrementalPathPlanner planner = new IncrementalPathPlanner(matrix, agent, goal);
+        MatrixPathFinder finder = new MatrixPathFinder(matrix);
+        Random random = new Random(42);
+
+        long startTime = System.nanoTime();
+        List<Point> path = planner.findPath();
+        double initialMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        int initialExpanded = planner.getExpandedNodes();
+
+        long incrementalTime = 0;
+        long scratchTime = 0;
+        long repairExpanded = 0;
+        int sameLength = 0;
+        int replans = 0;
+        for (int turn = 0; turn < turns && path.size() > 2; turn++) {
+            agent = path.get(1);
+            planner.moveStart(agent);
+            // Bloquear una celda de la ruta restante (sin tocar el agente ni el objetivo)
+            Point blocked = path.get(2 + random.nextInt(path.size() - 2));
+            if (blocked.equals(goal)) {
+                continue;
+            }
+            planner.setCell(blocked.row, blocked.col, '#');
+
+            startTime = System.nanoTime();
+            path = planner.findPath();
+            incrementalTime += System.nanoTime() - startTime;
+            repairExpanded += planner.getExpandedNodes();
+
+            startTime = System.nanoTime();
+            List<Point> fromScratch = finder.findPathBFS(agent, goal);
+            scratchTime += System.nanoTime() - startTime;
+            replans++;
+            if (fromScratch.size() == path.size()) {
+                sameLength++;
+            }
+        }
+
+        System.out.println("Matriz " + size + "x" + size + ", " + replans + " cambios:");
+        System.out.printf("  Plan inicial D* Lite:   %8.2f ms (%d celdas expandidas)%n", initialMs, initialExpanded);
+        System.out.printf("  findPathBFS por cambio: %8.3f ms en promedio%n", scratchTime / Math.max(1, replans) / 1_000_000.0);
+        System.out.printf("  D* Lite por cambio:     %8.3f ms en promedio (%d celdas expandidas en promedio)%n",
+            incrementalTime / Math.max(1, replans) / 1_000_000.0, repairExpanded / Math.max(1, replans));
+        System.out.println("  Misma longitud que findPathBFS: " + sameLength + "/" + replans);
+        System.out.println();
+    }
+
+    /**
+     * Compara findPathBFS (estado por celda) contra la búsqueda por fronteras con divide y
+     * vencerás (estado proporcional al ancho de la frontera): tiempo contra memoria auxiliar
+     */
+    public void compareFrontierSearch() {
+        System.out.println("=== MEMORIA: findPathBFS vs búsqueda por fronteras (divide y vencerás) ===");
+        System.out.println("De (0,0) a la esquina opuesta; memoria auxiliar sin contar la matriz char[][]");
+        System.out.println();
+
+        int[] testSizes = {500, 1000, 2000};
+        int iterations = 3; // Número de iteraciones para promediar
+
+        for (int size : testSizes) {
+            char[][] matrix = createTestMatrix(size, size);
+            Point start = new Point(0, 0);
+            Point end = new Point(size - 1, size - 1);
+            MatrixPathFinder bfsFinder = new MatrixPathFinder(matrix);
+            MatrixPathFinderFrontier frontierFinder = new MatrixPathFinderFrontier(matrix);
+
+            List<Point> pathBFS = bfsFinder.findPathBFS(start, end); // Calentamiento
+            long bfsTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long startTime = System.nanoTime();
+                pathBFS = bfsFinder.findPathBFS(start, end);
+                bfsTime += System.nanoTime() - startTime;
+            }
+
+            List<Point> pathFrontier = frontierFinder.findPath(start, end); // Calentamiento
+            long frontierTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long startTime = System.nanoTime();
+                pathFrontier = frontierFinder.findPath(start, end);
+                frontierTime += System.nanoTime() - startTime;
+            }
+
+            // findPathBFS: SearchWorkspace (visitado, padre y distancia) y etiquetas de GridComponentIndex
+            long bfsBytes = 16L * size * size;
+            System.out.println("Matriz " + size + "x" + size + " (ruta: " + pathBFS.size() + " / "
+                + pathFrontier.size() + " pasos):");
+            System.out.printf("  findPathBFS:  %8.2f ms, memoria auxiliar %9.1f KB (16 B por celda)%n",
+                bfsTime / iterations / 1_000_000.0, bfsBytes / 1024.0);
+            System.out.printf("  Fronteras:    %8.2f ms, memoria auxiliar %9.1f KB (nivel más ancho: %d celdas)%n",
+                frontierTime / iterations / 1_000_000.0, frontierFinder.getBufferBytes() / 1024.0,
+                frontierFinder.getPeakFrontier());
+            System.out.printf("  Costo en tiempo: %.1fx; %d búsquedas, %d celdas expandidas en total%n",
+                (double) frontierTime / Math.max(bfsTime, 1), frontierFinder.getSearchCount(),
+                frontierFinder.getExpandedCells());
+            System.out.println();
+        }
+    }
+
+    /**
+     * BFS en memoria externa (niveles en archivos temporales ordenados) contra el BFS en memoria
+     * de DistanceField sobre la misma grilla; la grilla se genera directo al archivo, fila por fila
+     */
+    public void compareExternalMemoryBFS() {
+        System.out.println("=== BFS EN MEMORIA EXTERNA: niveles en disco vs BFS en memoria ===");
+        System.out.println("Recorrido completo desde (0,0); la grilla se lee del archivo sin cargarla");
+        System.out.println();
+
+        int[] testSizes = {500, 1000};
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("bfs-externo");
+            for (int size : testSizes) {
+                Path gridFile = directory.resolve("grilla-" + size + ".txt");
+                writeTestGridFile(gridFile, size, size);
+                ExternalMemoryBFS external = new ExternalMemoryBFS(gridFile, directory);
+                external.run(new Point(0, 0), null);
+
+                // Referencia en memoria: la misma grilla como char[][]
+                char[][] matrix = createTestMatrix(size, size);
+                long startTime = System.nanoTime();
+                DistanceField field = new DistanceField(matrix, Collections.singletonList(new Point(0, 0)));
+                long memoryTime = System.nanoTime() - startTime;
+
+                System.out.println("Grilla " + size + "x" + size + " (archivo de "
+                    + Files.size(gridFile) / 1024 + " KB, " + external.getLevels() + " niveles):");
+                System.out.printf("  BFS en memoria:  %9.2f ms, %d celdas alcanzadas (int[] de %.1f KB)%n",
+                    memoryTime / 1_000_000.0, field.getReachableCount(), 4.0 * size * size / 1024);
+                System.out.printf("  BFS externo:     %9.2f ms, %d celdas alcanzadas, nivel más ancho: %d%n",
+                    external.getElapsedNanos() / 1_000_000.0, external.getReachableCells(),
+                    external.getMaxLayerSize());
+                System.out.printf("  Escrito en niveles: %.1f KB (%.2f bytes por celda)%n",
+                    external.getBytesWritten() / 1024.0,
+                    (double) external.getBytesWritten() / Math.max(1, external.getReachableCells()));
+                System.out.println();
+                Files.delete(gridFile);
+            }
+        } catch (IOException e) {
+            System.out.println("  No se pudo usar el directorio temporal: " + e.getMessage());
+        } finally {
+            if (directory != null) {
+                try {
+                    Files.deleteIfExists(directory);
+                } catch (IOException e) {
+                    System.out.println("  No se pudo borrar " + directory + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe en un archivo la misma grilla que createTestMatrix, fila por fila (sin char[][])
+     */
+    private void writeTestGridFile(Path file, int rows, int cols) throws IOException {
+        Random random = new Random(42); // Misma secuencia que createTestMatrix
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            char[] row = new char[cols];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (i == 0 && j == 0) {
+                        row[j] = 'S';
+                    } else if (i == rows - 1 && j == cols - 1) {
+                        row[j] = 'E';
+                    } else if (random.nextDouble() < 0.2) {
+                        row[j] = '#';
+                    } else {
+                        row[j] = '.';
+                    }
+                }
+                out.write(row);
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Compara A* con Manhattan contra A* con landmarks (ALT) en un laberinto, donde los pasillos
+     * obligan a rodeos que Manhattan no ve; reporta preproceso y memoria de la tabla
+     */
+    public void compareLandmarkHeuristic() {
+        System.out.println("=== COMPARACIÓN: A* Manhattan vs A* con landmarks (ALT) ===");
+        System.out.println("Laberinto con ciclos, consultas entre celdas libres aleatorias");
+        System.out.println();
+
+        int size = 801;
+        int queries = 200;
+        char[][] matrix = createMazeMatrix(size, size);
+        GridGraph graph = new GridGraph(matrix);
+        MatrixPathFinderAStar manhattan = new MatrixPathFinderAStar(matrix);
+
+        // Consultas fijas entre celdas libres
+        Random random = new Random(7);
+        Point[] starts = new Point[queries];
+        Point[] ends = new Point[queries];
+        for (int i = 0; i < queries; i++) {
+            starts[i] = randomFreeCell(graph, random);
+            ends[i] = randomFreeCell(graph, random);
+        }
+
+        System.out.println("Laberinto " + size + "x" + size + ", " + queries + " consultas:");
+        long baseTime = 0;
+        long baseExpanded = 0;
+        for (int i = 0; i < queries; i++) {
+            long startTime = System.nanoTime();
+            manhattan.findPath(starts[i], ends[i]);
+            baseTime += System.nanoTime() - startTime;
+            baseExpanded += manhattan.getExpandedNodes();
+        }
+        System.out.printf("  %-18s %8.3f ms por consulta (expandidas en promedio: %d)%n", "A* Manhattan:",
+            baseTime / queries / 1_000_000.0, baseExpanded / queries);
+
+        for (int k : new int[] {4, 8, 16}) {
+            LandmarkHeuristic landmarks = new LandmarkHeuristic(matrix, k);
+            MatrixPathFinderAStar alt = new MatrixPathFinderAStar(matrix, landmarks);
+            long altTime = 0;
+            long altExpanded = 0;
+            int sameLength = 0;
+            for (int i = 0; i < queries; i++) {
+                long startTime = System.nanoTime();
+                List<Point> path = alt.findPath(starts[i], ends[i]);
+                altTime += System.nanoTime() - startTime;
+                altExpanded += alt.getExpandedNodes();
+                if (path.size() == manhattan.findPath(starts[i], ends[i]).size()) {
+                    sameLength++;
+                }
+            }
+            System.out.printf("  %-18s %8.3f ms por consulta (expandidas en promedio: %d, misma longitud: %d/%d)%n",
+                "A* ALT k=" + k + ":", altTime / queries / 1_000_000.0, altExpanded / queries, sameLength, queries);
+            System.out.println("    " + landmarks);
+        }
+        System.out.println();
+    }
+
+    private static Point randomFreeCell(GridGraph graph, Random random) {
+        while (true) {
+            int cell = random.nextInt(graph.getCellCount());
+            if (graph.isPassable(cell)) {
+                return graph.toPoint(cell);
+            }
+        }
+    }
+
+    /**
+     * Compara A* contra la búsqueda jerárquica (HPA*), incluyendo el costo de preprocesamiento
+     */
+    public void compareHierarchicalSearch() {
+        System.out.println("=== COMPARACIÓN: A* vs HPA* (jerárquico) ===");
+        System.out.println("Clústeres de 32x32, de (0,0) a la esquina opuesta");
+        System.out.println();
+        
+        int[] testSizes = {500, 1000};
+        int iterations = 5; // Número de iteraciones para promediar
+        
+        for (int size : testSizes) {
+            char[][] matrix = createTestMatrix(size, size);
+            Point start = new Point(0, 0);
+            Point end = new Point(size - 1, size - 1);
+            
+            MatrixPathFinderHierarchical hierarchical = new MatrixPathFinderHierarchical(matrix, 32);
+            MatrixPathFinderAStar aStar = new MatrixPathFinderAStar(matrix);
+            
+            System.out.println("Matriz " + size + "x" + size + ":");
+            System.out.println("  " + hierarchical.getStats());
+            
+            List<Point> pathAStar = aStar.findPath(start, end); // Calentamiento
+            long aStarTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long startTime = System.nanoTime();
+                pathAStar = aStar.findPath(start, end);
+                aStarTime += System.nanoTime() - startTime;
+            }
+            
+            List<Point> pathHierarchical = hierarchical.findPath(start, end); // Calentamiento
+            long hierarchicalTime = 0;
+            for (int i = 0; i < iterations; i++) {
+                long startTime = System.nanoTime();
+                pathHierarchical = hierarchical.findPath(start, end);
+                hierarchicalTime += System.nanoTime() - startTime;
+            }
+            
+            System.out.printf("  A*:     %8.2f ms por consulta (ruta: %d pasos, expandidas: %d)%n",
+                aStarTime / iterations / 1_000_000.0, pathAStar.size(), aStar.getExpandedNodes());
+            System.out.printf("  HPA*:   %8.2f ms por consulta (ruta: %d pasos, nodos abstractos expandidos: %d)%n",
+                hierarchicalTime / iterations / 1_000_000.0, pathHierarchical.size(), hierarchical.getExpandedNodes());
+            System.out.println();
+        }
+    }
+    
     /**
      * Crea una matriz de prueba con obstáculos aleatorios
      */
@@ -190,6 +953,55 @@ public class PerformanceComparator {
         return matrix;
     }
     
+    /**
+     * Crea un laberinto (DFS aleatorio sobre las celdas de coordenadas impares) y abre un 5%
+     * de paredes adicionales para que haya ciclos; 'S' en (0,0) y 'E' en la esquina opuesta
+     */
+    private char[][] createMazeMatrix(int rows, int cols) {
+        char[][] matrix = new char[rows][cols];
+        for (char[] row : matrix) {
+            Arrays.fill(row, '#');
+        }
+        Random random = new Random(42); // Semilla fija para resultados consistentes
+        int[][] moves = {{-2, 0}, {2, 0}, {0, -2}, {0, 2}};
+        Deque<int[]> stack = new ArrayDeque<>();
+        matrix[1][1] = '.';
+        stack.push(new int[] {1, 1});
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            List<int[]> options = new ArrayList<>(4);
+            for (int[] move : moves) {
+                int row = cell[0] + move[0];
+                int col = cell[1] + move[1];
+                if (row > 0 && row < rows - 1 && col > 0 && col < cols - 1 && matrix[row][col] == '#') {
+                    options.add(new int[] {row, col});
+                }
+            }
+            if (options.isEmpty()) {
+                stack.pop();
+                continue;
+            }
+            int[] next = options.get(random.nextInt(options.size()));
+            matrix[(cell[0] + next[0]) / 2][(cell[1] + next[1]) / 2] = '.'; // Pared intermedia
+            matrix[next[0]][next[1]] = '.';
+            stack.push(next);
+        }
+
+        // Paredes interiores abiertas al azar: ciclos y rutas alternativas
+        for (int i = 1; i < rows - 1; i++) {
+            for (int j = 1; j < cols - 1; j++) {
+                if (matrix[i][j] == '#' && (i + j) % 2 == 1 && random.nextDouble() < 0.05) {
+                    matrix[i][j] = '.';
+                }
+            }
+        }
+        matrix[0][0] = 'S';
+        matrix[0][1] = '.';
+        matrix[rows - 1][cols - 1] = 'E';
+        matrix[rows - 1][cols - 2] = '.';
+        return matrix;
+    }
+    
     /**
      * Imprime un reporte completo de comparación
      */
@@ -201,7 +1013,18 @@ public class PerformanceComparator {
         
         compareStackPerformance();
         compareQueuePerformance();
+        comparePrimitiveStructures();
         comparePathFinding();
+        compareSearchEngines();
+        compareParallelBFS();
+        compareVectorBFS();
+        compareBatchQueries();
+        compareFlowField();
+        compareIncrementalReplanning();
+        compareLandmarkHeuristic();
+        compareFrontierSearch();
+        compareExternalMemoryBFS();
+        compareHierarchicalSearch();
         
         System.out.println("=".repeat(60));
         System.out.println("CONCLUSIONES:");
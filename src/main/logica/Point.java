@@ -18,9 +18,30 @@ public class Point {
         return row == point.row && col == point.col;
     }
     
+    /**
+     * Retorna las coordenadas empaquetadas en un long: fila en los 32 bits altos, columna en los bajos
+     * Es una clave primitiva sin colisiones para cualquier tamaño de matriz
+     */
+    public long toPacked() {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Reconstruye un Point desde su forma empaquetada (inversa de toPacked)
+     */
+    public static Point fromPacked(long packed) {
+        return new Point((int) (packed >> 32), (int) packed);
+    }
+    
+    /**
+     * Hash multiplicativo (Fibonacci) de la fila combinado con la columna
+     * - El anterior row * 1000 + col colisionaba con 1000 o más columnas: (0, 1000) y (1, 0)
+     *   caían en el mismo balde de HashSet/HashMap
+     * - Celdas vecinas de una misma fila siguen en baldes cercanos, como con el hash anterior
+     */
     @Override
     public int hashCode() {
-        return row * 1000 + col;
+        return (row * 0x9E3779B1) ^ col;
     }
     
     @Override
@@ -0,0 +1,60 @@
+/**
+ * Núcleo escalar de expansión de frontera: una palabra long (64 celdas) por iteración
+ * Es la implementación de referencia y el respaldo cuando no hay Vector API
+ */
+public class ScalarFrontierKernel implements FrontierKernel {
+
+    @Override
+    public boolean expand(long[] frontier, long[] passable, long[] visited, long[] next,
+                          long[] modLow, long[] modHigh, int rowBase, int words,
+                          int from, int to, boolean hasUp, boolean hasDown, int mod) {
+        boolean any = false;
+        for (int w = from; w < to; w++) {
+            any |= expandWord(frontier, passable, visited, next, modLow, modHigh,
+                rowBase, words, w, hasUp, hasDown, mod);
+        }
+        return any;
+    }
+
+    /**
+     * Expande una sola palabra; la usan también los bordes del núcleo vectorial
+     */
+    protected static boolean expandWord(long[] frontier, long[] passable, long[] visited, long[] next,
+                                        long[] modLow, long[] modHigh, int rowBase, int words,
+                                        int w, boolean hasUp, boolean hasDown, int mod) {
+        int index = rowBase + w;
+        long current = frontier[index];
+        long reached = current << 1 | current >>> 1;
+        if (w > 0) {
+            reached |= frontier[index - 1] >>> 63; // Acarreo desde la palabra izquierda
+        }
+        if (w < words - 1) {
+            reached |= frontier[index + 1] << 63; // Acarreo desde la palabra derecha
+        }
+        if (hasUp) {
+            reached |= frontier[index - words];
+        }
+        if (hasDown) {
+            reached |= frontier[index + words];
+        }
+        reached &= passable[index] & ~visited[index];
+        if (reached == 0) {
+            return false;
+        }
+
+        next[index] = reached;
+        visited[index] |= reached;
+        if ((mod & 1) != 0) {
+            modLow[index] |= reached;
+        }
+        if ((mod & 2) != 0) {
+            modHigh[index] |= reached;
+        }
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "escalar (64 celdas por operación)";
+    }
+}
@@ -0,0 +1,125 @@
+import java.util.*;
+
+/**
+ * Espacio de trabajo reutilizable para búsquedas sobre una matriz de rows * cols celdas
+ * - Reemplaza los boolean[rows][cols] y Point[rows][cols] que cada búsqueda asignaba
+ * - Usa sellos de generación: beginQuery() incrementa la generación y así invalida
+ *   todas las marcas de la consulta anterior sin recorrer ni limpiar la memoria
+ * - Una celda está visitada solo si stamp[cell] == generación actual
+ * No es seguro para hilos: se usa un espacio por buscador
+ */
+public class SearchWorkspace {
+    private final int[] visitStamp;
+    private final int[] parent;
+    private final int[] distance;
+    private int[] closedStamp; // Solo lo usan A*/JPS; se asigna la primera vez
+    private int generation;
+
+    /**
+     * Constructor: crea un espacio para ids de celda en [0, cellCount)
+     * Precondición: cellCount >= 0
+     */
+    public SearchWorkspace(int cellCount) {
+        this.visitStamp = new int[cellCount];
+        this.parent = new int[cellCount];
+        this.distance = new int[cellCount];
+        this.generation = 0;
+    }
+
+    /**
+     * Inicia una nueva consulta: todas las celdas pasan a "no visitadas" en O(1)
+     * Solo cuando la generación se desborda (cada 2^31 - 1 consultas) se limpian los sellos
+     */
+    public void beginQuery() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamp, 0);
+            if (closedStamp != null) {
+                Arrays.fill(closedStamp, 0);
+            }
+            generation = 1;
+        }
+    }
+
+    /**
+     * Verifica si la celda fue visitada en la consulta actual
+     * Complejidad: O(1)
+     */
+    public boolean isVisited(int cell) {
+        return visitStamp[cell] == generation;
+    }
+
+    /**
+     * Marca la celda como visitada y registra su padre (-1 para la raíz)
+     * Complejidad: O(1)
+     */
+    public void visit(int cell, int parentCell) {
+        visitStamp[cell] = generation;
+        parent[cell] = parentCell;
+    }
+
+    /**
+     * Marca la celda como visitada y registra su padre y su distancia
+     * Complejidad: O(1)
+     */
+    public void visit(int cell, int parentCell, int cellDistance) {
+        visitStamp[cell] = generation;
+        parent[cell] = parentCell;
+        distance[cell] = cellDistance;
+    }
+
+    /**
+     * Retorna el padre de una celda visitada en la consulta actual
+     */
+    public int parentOf(int cell) {
+        return parent[cell];
+    }
+
+    /**
+     * Retorna la distancia de una celda, o Integer.MAX_VALUE si no fue visitada en esta consulta
+     */
+    public int distanceOf(int cell) {
+        return isVisited(cell) ? distance[cell] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Marca la celda como cerrada (ya expandida) en la consulta actual
+     */
+    public void close(int cell) {
+        if (closedStamp == null) {
+            closedStamp = new int[visitStamp.length];
+        }
+        closedStamp[cell] = generation;
+    }
+
+    /**
+     * Verifica si la celda fue cerrada en la consulta actual
+     */
+    public boolean isClosed(int cell) {
+        return closedStamp != null && closedStamp[cell] == generation;
+    }
+
+    /**
+     * Retorna el número de celdas que admite el espacio
+     */
+    public int capacity() {
+        return visitStamp.length;
+    }
+
+    /**
+     * Reconstruye la ruta desde la raíz hasta endCell siguiendo los padres
+     * Esta lista es la única asignación proporcional a la ruta por consulta
+     */
+    public List<Point> pathTo(int endCell, int cols) {
+        List<Point> path = new ArrayList<>();
+        int current = endCell;
+
+        while (current != -1) {
+            path.add(new Point(current / cols, current % cols));
+            current = parent[current];
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,74 @@
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleo vectorial de expansión de frontera con jdk.incubator.vector (SIMD)
+ * - Procesa SPECIES.length() palabras por instrucción (4 con AVX2, 8 con AVX-512: 256 o 512 celdas)
+ * - Los acarreos entre palabras vecinas salen de dos cargas desplazadas una posición
+ *   (palabras w-1 y w+1), sin mezclar carriles
+ * - Las palabras de borde de la fila y el resto que no llena un vector usan el núcleo escalar
+ * Requiere compilar y ejecutar con --add-modules jdk.incubator.vector (perfil "vector" del pom);
+ * FrontierKernel.best() lo carga por reflexión y, si falta el módulo, usa ScalarFrontierKernel
+ */
+public class VectorFrontierKernel extends ScalarFrontierKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean expand(long[] frontier, long[] passable, long[] visited, long[] next,
+                          long[] modLow, long[] modHigh, int rowBase, int words,
+                          int from, int to, boolean hasUp, boolean hasDown, int mod) {
+        int lanes = SPECIES.length();
+        // Palabras con vecina a ambos lados dentro de la fila: [vectorFrom, vectorTo)
+        int vectorFrom = Math.max(from, 1);
+        int vectorTo = Math.min(to, words - 1);
+        boolean any = false;
+
+        int w = from;
+        for (; w < vectorFrom; w++) {
+            any |= expandWord(frontier, passable, visited, next, modLow, modHigh,
+                rowBase, words, w, hasUp, hasDown, mod);
+        }
+        for (; w + lanes <= vectorTo; w += lanes) {
+            int index = rowBase + w;
+            LongVector current = LongVector.fromArray(SPECIES, frontier, index);
+            LongVector left = LongVector.fromArray(SPECIES, frontier, index - 1);
+            LongVector right = LongVector.fromArray(SPECIES, frontier, index + 1);
+            LongVector reached = current.lanewise(VectorOperators.LSHL, 1)
+                .or(current.lanewise(VectorOperators.LSHR, 1))
+                .or(left.lanewise(VectorOperators.LSHR, 63))
+                .or(right.lanewise(VectorOperators.LSHL, 63));
+            if (hasUp) {
+                reached = reached.or(LongVector.fromArray(SPECIES, frontier, index - words));
+            }
+            if (hasDown) {
+                reached = reached.or(LongVector.fromArray(SPECIES, frontier, index + words));
+            }
+            LongVector seen = LongVector.fromArray(SPECIES, visited, index);
+            reached = reached.and(LongVector.fromArray(SPECIES, passable, index)).and(seen.not());
+            if (reached.reduceLanes(VectorOperators.OR) == 0) {
+                continue; // next ya está en cero en el tramo
+            }
+
+            reached.intoArray(next, index);
+            seen.or(reached).intoArray(visited, index);
+            if ((mod & 1) != 0) {
+                LongVector.fromArray(SPECIES, modLow, index).or(reached).intoArray(modLow, index);
+            }
+            if ((mod & 2) != 0) {
+                LongVector.fromArray(SPECIES, modHigh, index).or(reached).intoArray(modHigh, index);
+            }
+            any = true;
+        }
+        for (; w < to; w++) {
+            any |= expandWord(frontier, passable, visited, next, modLow, modHigh,
+                rowBase, words, w, hasUp, hasDown, mod);
+        }
+        return any;
+    }
+
+    @Override
+    public String getName() {
+        return "vectorial (" + SPECIES.length() + " x 64 celdas por operación)";
+    }
+}